@@ -0,0 +1,74 @@
+package com.github.jeuxjeux20.guicybukkit;
+
+import org.bukkit.event.HandlerList;
+
+import java.time.Duration;
+
+/**
+ * Describes the outcome of {@link PluginDependencies#registerListenersBatched(org.bukkit.plugin.Plugin)}:
+ * how many handlers were registered, and how long it took.
+ */
+public final class ListenerRegistrationReport {
+    private final int listenerCount;
+    private final int handlerCount;
+    private final int handlerListCount;
+    private final Duration duration;
+
+    /**
+     * Creates a new {@link ListenerRegistrationReport}.
+     *
+     * @param listenerCount the number of registered listeners
+     * @param handlerCount the number of registered event handlers
+     * @param handlerListCount the number of distinct handler lists the handlers were added to
+     * @param duration the time the registration took
+     */
+    public ListenerRegistrationReport(int listenerCount, int handlerCount, int handlerListCount, Duration duration) {
+        this.listenerCount = listenerCount;
+        this.handlerCount = handlerCount;
+        this.handlerListCount = handlerListCount;
+        this.duration = duration;
+    }
+
+    /**
+     * Gets the number of registered listeners.
+     *
+     * @return the number of listeners
+     */
+    public int getListenerCount() {
+        return listenerCount;
+    }
+
+    /**
+     * Gets the number of registered event handlers, across all listeners.
+     *
+     * @return the number of handlers
+     */
+    public int getHandlerCount() {
+        return handlerCount;
+    }
+
+    /**
+     * Gets the number of distinct {@link HandlerList}s the handlers were added to,
+     * which is also the number of times handlers were baked.
+     *
+     * @return the number of handler lists
+     */
+    public int getHandlerListCount() {
+        return handlerListCount;
+    }
+
+    /**
+     * Gets the time the registration took.
+     *
+     * @return the duration of the registration
+     */
+    public Duration getDuration() {
+        return duration;
+    }
+
+    @Override
+    public String toString() {
+        return "Registered " + handlerCount + " handlers from " + listenerCount + " listeners in "
+               + handlerListCount + " handler lists (" + duration.toMillis() + " ms)";
+    }
+}
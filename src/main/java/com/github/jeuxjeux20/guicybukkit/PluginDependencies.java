@@ -2,19 +2,33 @@ package com.github.jeuxjeux20.guicybukkit;
 
 import com.github.jeuxjeux20.guicybukkit.command.CommandConfigurator;
 import com.github.jeuxjeux20.guicybukkit.command.CommandNotFoundException;
+import com.github.jeuxjeux20.guicybukkit.task.ScheduledTask;
+import com.github.jeuxjeux20.guicybukkit.task.TaskWheel;
 import com.google.inject.Inject;
 import com.google.inject.Injector;
 import org.bukkit.command.PluginCommand;
+import org.bukkit.event.Event;
+import org.bukkit.event.HandlerList;
 import org.bukkit.event.Listener;
+import org.bukkit.plugin.IllegalPluginAccessException;
 import org.bukkit.plugin.Plugin;
+import org.bukkit.plugin.PluginLoader;
 import org.bukkit.plugin.PluginManager;
+import org.bukkit.plugin.RegisteredListener;
 import org.bukkit.plugin.java.JavaPlugin;
 
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
- * A simple object to gather all injected {@linkplain Listener}s and {@linkplain CommandConfigurator}s,
- * and register them in plugins.
+ * A simple object to gather all injected {@linkplain Listener}s, {@linkplain CommandConfigurator}s
+ * and {@linkplain ScheduledTask}s, and register them in plugins.
  * <p>
  * Here is an example on how to use {@link PluginDependencies} with a {@link PluginModule} in a {@link JavaPlugin}:
  * <pre>
@@ -43,23 +57,52 @@ import java.util.Set;
  *     }
  * }
  * </pre>
+ * Plugins with many listeners can use {@link #registerListenersBatched(Plugin)} instead of
+ * {@link #registerListeners(Plugin)}, which adds the handlers of each event all at once.
  * @see #fromInjector(Injector)
  */
 public class PluginDependencies {
 
     private final Set<Listener> listeners;
     private final Set<CommandConfigurator> commandsConfigurators;
+    private final TaskWheel taskWheel;
 
     /**
      * Creates a new instance of {@link PluginDependencies} with the specified
-     * {@code listeners} and {@code commands}.
+     * {@code listeners} and {@code commands}, and no scheduled tasks.
      * @param listeners the listeners
      * @param commands the commands
      */
-    @Inject
     public PluginDependencies(Set<Listener> listeners, Set<CommandConfigurator> commands) {
+        this(listeners, commands, new TaskWheel());
+    }
+
+    /**
+     * Creates a new instance of {@link PluginDependencies} with the specified
+     * {@code listeners}, {@code commands} and {@code tasks}, driven by a new {@link TaskWheel}.
+     * @param listeners the listeners
+     * @param commands the commands
+     * @param tasks the scheduled tasks
+     */
+    public PluginDependencies(Set<Listener> listeners, Set<CommandConfigurator> commands, Set<ScheduledTask> tasks) {
+        this(listeners, commands, new TaskWheel(tasks));
+    }
+
+    /**
+     * Creates a new instance of {@link PluginDependencies} with the specified
+     * {@code listeners} and {@code commands}, and the scheduled tasks of the specified {@code taskWheel}.
+     * <p>
+     * When created by an injector configured with a {@link PluginModule}, the task wheel is a singleton,
+     * shared by every {@link PluginDependencies} of that injector.
+     * @param listeners the listeners
+     * @param commands the commands
+     * @param taskWheel the task wheel driving the scheduled tasks
+     */
+    @Inject
+    public PluginDependencies(Set<Listener> listeners, Set<CommandConfigurator> commands, TaskWheel taskWheel) {
         this.listeners = listeners;
         this.commandsConfigurators = commands;
+        this.taskWheel = taskWheel;
     }
 
     /**
@@ -92,6 +135,24 @@ public class PluginDependencies {
         return commandsConfigurators;
     }
 
+    /**
+     * Gets the scheduled tasks, as run by the {@linkplain #getTaskWheel() task wheel}.
+     *
+     * @return the scheduled tasks
+     */
+    public final List<ScheduledTask> getTasks() {
+        return taskWheel.getTasks();
+    }
+
+    /**
+     * Gets the timing wheel driving the scheduled tasks, which contains their metrics.
+     *
+     * @return the task wheel
+     */
+    public final TaskWheel getTaskWheel() {
+        return taskWheel;
+    }
+
     /**
      * Registers all listeners in the specified {@code plugin}.
      *
@@ -109,6 +170,71 @@ public class PluginDependencies {
         }
     }
 
+    /**
+     * Registers all listeners in the specified {@code plugin}, adding the handlers of each {@link HandlerList}
+     * all at once, and reports how many handlers were registered.
+     * <p>
+     * Unlike {@link #registerListeners(Plugin)}, which registers listeners one by one, this method first collects
+     * the handlers of every listener, groups them by {@link HandlerList}, and then adds and bakes each group once.
+     * The handler list of each event class is also looked up only once.
+     *
+     * @param plugin the plugin to use to register the listeners
+     * @return a report of the registration
+     * @throws IllegalPluginAccessException when the plugin is not enabled, or when an event has no handler list
+     * @implSpec The handlers are created using the plugin's {@link PluginLoader#createRegisteredListeners(Listener, Plugin)},
+     * like {@link PluginManager#registerEvents(Listener, Plugin)} does.
+     */
+    public ListenerRegistrationReport registerListenersBatched(Plugin plugin) {
+        if (!plugin.isEnabled()) {
+            throw new IllegalPluginAccessException("Plugin attempted to register listeners while not enabled");
+        }
+        long start = System.nanoTime();
+
+        PluginLoader pluginLoader = plugin.getPluginLoader();
+        Map<Class<? extends Event>, HandlerList> handlerLists = new HashMap<>();
+        Map<HandlerList, List<RegisteredListener>> handlersByList = new IdentityHashMap<>();
+        for (Listener listener : listeners) {
+            for (Map.Entry<Class<? extends Event>, Set<RegisteredListener>> entry
+                    : pluginLoader.createRegisteredListeners(listener, plugin).entrySet()) {
+                HandlerList handlerList = handlerLists.computeIfAbsent(entry.getKey(), PluginDependencies::findHandlerList);
+                handlersByList.computeIfAbsent(handlerList, list -> new ArrayList<>()).addAll(entry.getValue());
+            }
+        }
+
+        int handlerCount = 0;
+        for (Map.Entry<HandlerList, List<RegisteredListener>> entry : handlersByList.entrySet()) {
+            HandlerList handlerList = entry.getKey();
+            handlerList.registerAll(entry.getValue());
+            handlerList.bake();
+            handlerCount += entry.getValue().size();
+        }
+
+        Duration duration = Duration.ofNanos(System.nanoTime() - start);
+        return new ListenerRegistrationReport(listeners.size(), handlerCount, handlersByList.size(), duration);
+    }
+
+    /**
+     * Finds the {@link HandlerList} of the specified event class, using its static {@code getHandlerList()} method,
+     * or the one of its closest superclass, the same way the {@link PluginManager} does.
+     */
+    private static HandlerList findHandlerList(Class<? extends Event> eventClass) {
+        try {
+            Method method = eventClass.getDeclaredMethod("getHandlerList");
+            method.setAccessible(true);
+            return (HandlerList) method.invoke(null);
+        } catch (NoSuchMethodException e) {
+            Class<?> superclass = eventClass.getSuperclass();
+            if (superclass != null && superclass != Event.class && Event.class.isAssignableFrom(superclass)) {
+                return findHandlerList(superclass.asSubclass(Event.class));
+            }
+            throw new IllegalPluginAccessException("Unable to find handler list for event "
+                                                   + eventClass.getName() + ". Static getHandlerList method required!");
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalPluginAccessException("Unable to get the handler list of event "
+                                                   + eventClass.getName() + ": " + e);
+        }
+    }
+
     /**
      * Runs {@link #registerCommands(CommandConfigurator.CommandFinder)} using the specified {@code plugin}.
      *
@@ -155,14 +281,26 @@ public class PluginDependencies {
     }
 
     /**
-     * Registers all listeners and commands on the specified {@code plugin}.
+     * Starts running all scheduled tasks, using a single repeating task of the specified {@code plugin}.
+     *
+     * @param plugin the plugin to schedule the tasks with
+     * @throws IllegalStateException when the tasks are already started
+     * @implSpec The default implementation {@linkplain TaskWheel#start(Plugin) starts} the {@link #getTaskWheel() task wheel}.
+     */
+    public void startTasks(Plugin plugin) {
+        taskWheel.start(plugin);
+    }
+
+    /**
+     * Registers all listeners and commands on the specified {@code plugin}, and starts all scheduled tasks.
      *
      * @param plugin the plugin to register the listeners and commands to.
-     * @implSpec The default implementation applies {@link #registerListeners(Plugin)}
-     * and {@link #registerCommands(JavaPlugin)} on the specified {@code plugin}.
+     * @implSpec The default implementation applies {@link #registerListeners(Plugin)},
+     * {@link #registerCommands(JavaPlugin)} and {@link #startTasks(Plugin)} on the specified {@code plugin}.
      */
     public void registerAll(JavaPlugin plugin) {
         registerListeners(plugin);
         registerCommands(plugin);
+        startTasks(plugin);
     }
 }
@@ -1,12 +1,30 @@
 package com.github.jeuxjeux20.guicybukkit;
 
 import com.github.jeuxjeux20.guicybukkit.command.CommandConfigurator;
+import com.github.jeuxjeux20.guicybukkit.condition.Condition;
+import com.github.jeuxjeux20.guicybukkit.condition.Conditions;
+import com.github.jeuxjeux20.guicybukkit.condition.RequiresConfig;
+import com.github.jeuxjeux20.guicybukkit.condition.RequiresPlugin;
+import com.github.jeuxjeux20.guicybukkit.condition.RequiresServerVersion;
+import com.github.jeuxjeux20.guicybukkit.entity.EntityStateStore;
+import com.github.jeuxjeux20.guicybukkit.scope.ChunkScope;
+import com.github.jeuxjeux20.guicybukkit.scope.ChunkScoped;
+import com.github.jeuxjeux20.guicybukkit.scope.WorldScope;
+import com.github.jeuxjeux20.guicybukkit.scope.WorldScoped;
+import com.github.jeuxjeux20.guicybukkit.task.ScheduledTask;
+import com.github.jeuxjeux20.guicybukkit.task.TaskWheel;
 import com.google.inject.AbstractModule;
 import com.google.inject.Injector;
+import com.google.inject.Provides;
+import com.google.inject.Singleton;
 import com.google.inject.multibindings.Multibinder;
+import org.bukkit.Chunk;
+import org.bukkit.World;
 import org.bukkit.event.Listener;
 import org.bukkit.plugin.Plugin;
 
+import java.util.Set;
+
 /**
  * An extension for {@link AbstractModule} that provides support for binding spigot plugins components
  * such as listeners and commands.
@@ -17,6 +35,12 @@ import org.bukkit.plugin.Plugin;
  * <b>Notes for inheritors</b>
  * <p>
  * Additional bindings can be configured by overriding the {@link #configureBindings()} method.
+ * World and chunk scopes can be installed there using {@link #installWorldScope(int)} and
+ * {@link #installChunkScope(int)}, and an {@link EntityStateStore} can be installed
+ * using {@link #installEntityStateStore()}.
+ * <p>
+ * Components that depend on the environment, such as an optional plugin or a configuration flag, can be
+ * bound using {@link #addBindingIfEnabled(Multibinder, Class)}, so they are not even instantiated when disabled.
  * <p>
  * Here is an example of using a {@link PluginModule} with {@link Listener}s and {@link CommandConfigurator}s:
  * <pre>
@@ -63,7 +87,8 @@ public abstract class PluginModule extends AbstractModule {
      * @apiNote <b>For inheritors</b>: override {@link #configureBindings()} to configure additional bindings.
      * @implSpec This implementation binds the plugin as a singleton,
      * adds every listener using {@link #configureListeners(Multibinder)}
-     * and adds every command using {@link #configureCommands(Multibinder)},
+     * adds every command using {@link #configureCommands(Multibinder)},
+     * adds every scheduled task using {@link #configureTasks(Multibinder)},
      * and finally calls {@link #configureBindings()} to configure any additional bindings.
      */
     @Override
@@ -71,14 +96,28 @@ public abstract class PluginModule extends AbstractModule {
         configurePlugin();
         configureListeners(Multibinder.newSetBinder(binder(), Listener.class));
         configureCommands(Multibinder.newSetBinder(binder(), CommandConfigurator.class));
+        configureTasks(Multibinder.newSetBinder(binder(), ScheduledTask.class));
 
         configureBindings();
     }
 
+    /**
+     * Provides the single {@link TaskWheel} driving every scheduled task, so every {@link PluginDependencies}
+     * obtained from the injector starts, stops and reports the same wheel.
+     *
+     * @param tasks the scheduled tasks
+     * @return the task wheel
+     */
+    @Provides
+    @Singleton
+    final TaskWheel provideTaskWheel(Set<ScheduledTask> tasks) {
+        return new TaskWheel(tasks);
+    }
+
     /**
      * Configures any additional bindings.
      * <p>
-     * This method is called after listeners and commands bindings in {@link #configure()}.
+     * This method is called after listeners, commands and tasks bindings in {@link #configure()}.
      */
     protected void configureBindings() {
     }
@@ -128,4 +167,147 @@ public abstract class PluginModule extends AbstractModule {
      */
     protected void configureCommands(Multibinder<CommandConfigurator> binder) {
     }
+
+    /**
+     * Configures the scheduled tasks to be run by the plugin.
+     * <p>
+     * Tasks can be registered using the provided {@code binder}, e.g.
+     * <pre>binder.addBinding().to(MyTask.class);</pre>
+     * <p>
+     * This method is called in {@link #configure()}.
+     *
+     * @param binder the multi binder, used to bind scheduled tasks
+     * @see ScheduledTask
+     * @see Multibinder
+     */
+    protected void configureTasks(Multibinder<ScheduledTask> binder) {
+    }
+
+    /**
+     * Returns whether the specified component {@code type} is enabled, according to its {@link RequiresPlugin},
+     * {@link RequiresConfig} and {@link RequiresServerVersion} annotations.
+     *
+     * @param type the component type
+     * @return true if the component is enabled, false otherwise
+     * @see Conditions#fromAnnotations(java.lang.reflect.AnnotatedElement)
+     */
+    protected final boolean isEnabled(Class<?> type) {
+        return Conditions.fromAnnotations(type).matches(plugin);
+    }
+
+    /**
+     * Adds a binding to the specified {@code type} in the {@code binder}, only if the type is
+     * {@linkplain #isEnabled(Class) enabled}. Disabled components are never instantiated nor registered.
+     * <p>
+     * For example, in {@link #configureListeners(Multibinder)}:
+     * <pre>
+     * addBindingIfEnabled(binder, VaultRewardsListener.class); // Annotated with &#64;RequiresPlugin("Vault")
+     * </pre>
+     *
+     * @param binder the multi binder
+     * @param type the component type
+     * @param <T> the type of the multi binder's elements
+     * @return true if the binding has been added, false otherwise
+     */
+    protected final <T> boolean addBindingIfEnabled(Multibinder<T> binder, Class<? extends T> type) {
+        return addBindingIf(Conditions.fromAnnotations(type), binder, type);
+    }
+
+    /**
+     * Adds a binding to the specified {@code type} in the {@code binder}, only if the {@code condition} matches.
+     * Disabled components are never instantiated nor registered.
+     *
+     * @param condition the condition
+     * @param binder the multi binder
+     * @param type the component type
+     * @param <T> the type of the multi binder's elements
+     * @return true if the binding has been added, false otherwise
+     */
+    protected final <T> boolean addBindingIf(Condition condition, Multibinder<T> binder, Class<? extends T> type) {
+        if (!condition.matches(plugin)) {
+            plugin.getLogger().fine("Skipping the disabled component " + type.getName() + ".");
+            return false;
+        }
+        binder.addBinding().to(type);
+        return true;
+    }
+
+    /**
+     * Installs a {@link WorldScope} with the {@linkplain WorldScope#DEFAULT_MAXIMUM_SIZE default maximum size}.
+     *
+     * @return the installed scope
+     * @see #installWorldScope(int)
+     */
+    protected final WorldScope installWorldScope() {
+        return installWorldScope(WorldScope.DEFAULT_MAXIMUM_SIZE);
+    }
+
+    /**
+     * Installs a {@link WorldScope} keeping at most {@code maximumSize} instances, so types annotated
+     * with {@link WorldScoped} get one instance per world.
+     * <p>
+     * The scope is bound as a singleton, so it can be injected to {@linkplain WorldScope#enter(World) enter} it,
+     * and is added as a listener, so its instances are evicted on world unload once the listeners are registered
+     * with {@link PluginDependencies}.
+     * <p>
+     * This method is meant to be called in {@link #configureBindings()}.
+     *
+     * @param maximumSize the maximum number of instances across all worlds
+     * @return the installed scope
+     */
+    protected final WorldScope installWorldScope(int maximumSize) {
+        WorldScope scope = new WorldScope(maximumSize);
+        bindScope(WorldScoped.class, scope);
+        bind(WorldScope.class).toInstance(scope);
+        Multibinder.newSetBinder(binder(), Listener.class).addBinding().toInstance(scope);
+        return scope;
+    }
+
+    /**
+     * Installs a {@link ChunkScope} with the {@linkplain ChunkScope#DEFAULT_MAXIMUM_SIZE default maximum size}.
+     *
+     * @return the installed scope
+     * @see #installChunkScope(int)
+     */
+    protected final ChunkScope installChunkScope() {
+        return installChunkScope(ChunkScope.DEFAULT_MAXIMUM_SIZE);
+    }
+
+    /**
+     * Installs a {@link ChunkScope} keeping at most {@code maximumSize} instances, so types annotated
+     * with {@link ChunkScoped} get one instance per chunk.
+     * <p>
+     * The scope is bound as a singleton, so it can be injected to {@linkplain ChunkScope#enter(Chunk) enter} it,
+     * and is added as a listener, so its instances are evicted on chunk and world unload once the listeners
+     * are registered with {@link PluginDependencies}.
+     * <p>
+     * This method is meant to be called in {@link #configureBindings()}.
+     *
+     * @param maximumSize the maximum number of instances across all chunks
+     * @return the installed scope
+     */
+    protected final ChunkScope installChunkScope(int maximumSize) {
+        ChunkScope scope = new ChunkScope(maximumSize);
+        bindScope(ChunkScoped.class, scope);
+        bind(ChunkScope.class).toInstance(scope);
+        Multibinder.newSetBinder(binder(), Listener.class).addBinding().toInstance(scope);
+        return scope;
+    }
+
+    /**
+     * Installs an {@link EntityStateStore}, so it can be injected in components to attach state to entities.
+     * <p>
+     * The store is bound as a singleton, and is added as a listener, so the state of entities is removed
+     * when they unload once the listeners are registered with {@link PluginDependencies}.
+     * <p>
+     * This method is meant to be called in {@link #configureBindings()}.
+     *
+     * @return the installed store
+     */
+    protected final EntityStateStore installEntityStateStore() {
+        EntityStateStore store = new EntityStateStore();
+        bind(EntityStateStore.class).toInstance(store);
+        Multibinder.newSetBinder(binder(), Listener.class).addBinding().toInstance(store);
+        return store;
+    }
 }
@@ -0,0 +1,44 @@
+package com.github.jeuxjeux20.guicybukkit.condition;
+
+import org.bukkit.plugin.Plugin;
+
+/**
+ * A condition on the plugin's environment, such as another plugin being present, or a configuration flag
+ * being enabled, that decides whether a component should be bound.
+ * <p>
+ * Conditions are evaluated while the {@link com.github.jeuxjeux20.guicybukkit.PluginModule} is configured,
+ * so components whose condition does not match are never bound, instantiated or registered.
+ *
+ * @see Conditions
+ * @see com.github.jeuxjeux20.guicybukkit.PluginModule#addBindingIfEnabled(com.google.inject.multibindings.Multibinder, Class)
+ */
+@FunctionalInterface
+public interface Condition {
+
+    /**
+     * Returns whether this condition matches for the specified {@code plugin}.
+     *
+     * @param plugin the plugin
+     * @return true if the condition matches, false otherwise
+     */
+    boolean matches(Plugin plugin);
+
+    /**
+     * Returns a condition matching when both this condition and the {@code other} condition match.
+     *
+     * @param other the other condition
+     * @return the combined condition
+     */
+    default Condition and(Condition other) {
+        return plugin -> matches(plugin) && other.matches(plugin);
+    }
+
+    /**
+     * Returns a condition matching when this condition does not match.
+     *
+     * @return the negated condition
+     */
+    default Condition negate() {
+        return plugin -> !matches(plugin);
+    }
+}
@@ -0,0 +1,155 @@
+package com.github.jeuxjeux20.guicybukkit.condition;
+
+import org.bukkit.plugin.Plugin;
+
+import java.lang.reflect.AnnotatedElement;
+
+/**
+ * Contains factories for common {@linkplain Condition conditions}.
+ */
+public final class Conditions {
+    private static final Condition ALWAYS = plugin -> true;
+
+    private Conditions() {
+    }
+
+    /**
+     * Gets a condition that always matches.
+     *
+     * @return a condition that always matches
+     */
+    public static Condition always() {
+        return ALWAYS;
+    }
+
+    /**
+     * Gets a condition matching when a plugin with the specified {@code name} is present on the server.
+     * <p>
+     * The plugin only needs to be loaded, not enabled, so this condition can be used in {@code onLoad}.
+     *
+     * @param name the name of the plugin
+     * @return the condition
+     */
+    public static Condition pluginPresent(String name) {
+        return plugin -> plugin.getServer().getPluginManager().getPlugin(name) != null;
+    }
+
+    /**
+     * Gets a condition matching when the boolean at the specified {@code path} of the plugin's configuration
+     * is {@code true}, or {@code false} if it is missing.
+     *
+     * @param path the path of the flag
+     * @return the condition
+     */
+    public static Condition configFlag(String path) {
+        return configFlag(path, false);
+    }
+
+    /**
+     * Gets a condition matching when the boolean at the specified {@code path} of the plugin's configuration
+     * is {@code true}, or when it is missing and {@code defaultValue} is {@code true}.
+     *
+     * @param path the path of the flag
+     * @param defaultValue the value of the flag when it is missing
+     * @return the condition
+     */
+    public static Condition configFlag(String path, boolean defaultValue) {
+        return plugin -> plugin.getConfig().getBoolean(path, defaultValue);
+    }
+
+    /**
+     * Gets a condition matching when the server's Minecraft version is greater than or equal to
+     * the specified {@code version}.
+     *
+     * @param version the minimum version, such as {@code "1.17"}
+     * @return the condition
+     */
+    public static Condition serverVersionAtLeast(String version) {
+        return plugin -> compareVersions(plugin.getServer().getBukkitVersion(), version) >= 0;
+    }
+
+    /**
+     * Gets a condition matching when the server's Minecraft version is lower than the specified {@code version}.
+     *
+     * @param version the maximum version (exclusive), such as {@code "1.17"}
+     * @return the condition
+     */
+    public static Condition serverVersionBelow(String version) {
+        return plugin -> compareVersions(plugin.getServer().getBukkitVersion(), version) < 0;
+    }
+
+    /**
+     * Gets the condition described by the {@link RequiresPlugin}, {@link RequiresConfig} and
+     * {@link RequiresServerVersion} annotations present on the specified {@code element}.
+     * <p>
+     * If there are no such annotations, the condition {@linkplain #always() always matches}.
+     *
+     * @param element the annotated element, usually a class
+     * @return the condition matching when every annotation's condition matches
+     */
+    public static Condition fromAnnotations(AnnotatedElement element) {
+        Condition condition = ALWAYS;
+
+        RequiresPlugin requiresPlugin = element.getAnnotation(RequiresPlugin.class);
+        if (requiresPlugin != null) {
+            for (String name : requiresPlugin.value()) {
+                condition = condition.and(pluginPresent(name));
+            }
+        }
+
+        RequiresConfig requiresConfig = element.getAnnotation(RequiresConfig.class);
+        if (requiresConfig != null) {
+            condition = condition.and(configFlag(requiresConfig.value(), requiresConfig.defaultValue()));
+        }
+
+        RequiresServerVersion requiresServerVersion = element.getAnnotation(RequiresServerVersion.class);
+        if (requiresServerVersion != null) {
+            if (!requiresServerVersion.atLeast().isEmpty()) {
+                condition = condition.and(serverVersionAtLeast(requiresServerVersion.atLeast()));
+            }
+            if (!requiresServerVersion.below().isEmpty()) {
+                condition = condition.and(serverVersionBelow(requiresServerVersion.below()));
+            }
+        }
+
+        return condition;
+    }
+
+    /**
+     * Compares two dotted versions, such as {@code "1.17.1"} and {@code "1.17"}, component by component.
+     * Parsing stops at the first character that is neither a digit nor a dot, so a Bukkit version such as
+     * {@code "1.17.1-R0.1-SNAPSHOT"} is read as {@code "1.17.1"}. Missing components count as zero.
+     *
+     * @param first the first version
+     * @param second the second version
+     * @return a negative number, zero or a positive number if the first version is lower than, equal to,
+     * or greater than the second version
+     */
+    static int compareVersions(String first, String second) {
+        int[] firstComponents = parseVersion(first);
+        int[] secondComponents = parseVersion(second);
+        int length = Math.max(firstComponents.length, secondComponents.length);
+        for (int i = 0; i < length; i++) {
+            int firstComponent = i < firstComponents.length ? firstComponents[i] : 0;
+            int secondComponent = i < secondComponents.length ? secondComponents[i] : 0;
+            if (firstComponent != secondComponent) {
+                return Integer.compare(firstComponent, secondComponent);
+            }
+        }
+        return 0;
+    }
+
+    private static int[] parseVersion(String version) {
+        int end = 0;
+        while (end < version.length()
+               && (Character.isDigit(version.charAt(end)) || version.charAt(end) == '.')) {
+            end++;
+        }
+        String[] parts = version.substring(0, end).split("\\.");
+        int[] components = new int[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            components[i] = parts[i].isEmpty() ? 0 : Integer.parseInt(parts[i]);
+        }
+        return components;
+    }
+}
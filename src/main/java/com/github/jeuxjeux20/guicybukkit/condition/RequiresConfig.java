@@ -0,0 +1,33 @@
+package com.github.jeuxjeux20.guicybukkit.condition;
+
+import java.lang.annotation.*;
+
+/**
+ * Marks the annotated component as enabled only when a boolean flag of the plugin's configuration is enabled.
+ * <p>
+ * <b>This annotation only takes effect when the component is bound using
+ * {@link com.github.jeuxjeux20.guicybukkit.PluginModule#addBindingIfEnabled(com.google.inject.multibindings.Multibinder, Class)},
+ * or checked with {@link Conditions#fromAnnotations(java.lang.reflect.AnnotatedElement)}.</b>
+ * A component bound directly, such as with {@code binder.addBinding().to(MyListener.class)}, is always bound.
+ *
+ * @see Conditions#configFlag(String, boolean)
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface RequiresConfig {
+
+    /**
+     * Gets the path of the flag in the plugin's configuration.
+     *
+     * @return the path of the flag
+     */
+    String value();
+
+    /**
+     * Gets the value of the flag when it is missing from the configuration.
+     *
+     * @return the default value of the flag
+     */
+    boolean defaultValue() default false;
+}
@@ -0,0 +1,26 @@
+package com.github.jeuxjeux20.guicybukkit.condition;
+
+import java.lang.annotation.*;
+
+/**
+ * Marks the annotated component as enabled only when every specified plugin is present on the server.
+ * <p>
+ * <b>This annotation only takes effect when the component is bound using
+ * {@link com.github.jeuxjeux20.guicybukkit.PluginModule#addBindingIfEnabled(com.google.inject.multibindings.Multibinder, Class)},
+ * or checked with {@link Conditions#fromAnnotations(java.lang.reflect.AnnotatedElement)}.</b>
+ * A component bound directly, such as with {@code binder.addBinding().to(MyListener.class)}, is always bound.
+ *
+ * @see Conditions#pluginPresent(String)
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface RequiresPlugin {
+
+    /**
+     * Gets the names of the required plugins.
+     *
+     * @return the names of the required plugins
+     */
+    String[] value();
+}
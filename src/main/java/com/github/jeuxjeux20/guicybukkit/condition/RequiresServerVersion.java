@@ -0,0 +1,35 @@
+package com.github.jeuxjeux20.guicybukkit.condition;
+
+import java.lang.annotation.*;
+
+/**
+ * Marks the annotated component as enabled only when the server's Minecraft version is within the specified range.
+ * Versions are dotted numbers, such as {@code "1.17"} or {@code "1.16.5"}.
+ * <p>
+ * <b>This annotation only takes effect when the component is bound using
+ * {@link com.github.jeuxjeux20.guicybukkit.PluginModule#addBindingIfEnabled(com.google.inject.multibindings.Multibinder, Class)},
+ * or checked with {@link Conditions#fromAnnotations(java.lang.reflect.AnnotatedElement)}.</b>
+ * A component bound directly, such as with {@code binder.addBinding().to(MyListener.class)}, is always bound.
+ *
+ * @see Conditions#serverVersionAtLeast(String)
+ * @see Conditions#serverVersionBelow(String)
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface RequiresServerVersion {
+
+    /**
+     * Gets the minimum version (inclusive), or an empty string for no minimum.
+     *
+     * @return the minimum version
+     */
+    String atLeast() default "";
+
+    /**
+     * Gets the maximum version (exclusive), or an empty string for no maximum.
+     *
+     * @return the maximum version
+     */
+    String below() default "";
+}
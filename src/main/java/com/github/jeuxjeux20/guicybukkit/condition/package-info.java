@@ -0,0 +1,8 @@
+/**
+ * Provides conditions deciding whether components are bound, evaluated while a
+ * {@link com.github.jeuxjeux20.guicybukkit.PluginModule} is configured.
+ */
+@ParametersAreNonnullByDefault
+package com.github.jeuxjeux20.guicybukkit.condition;
+
+import javax.annotation.ParametersAreNonnullByDefault;
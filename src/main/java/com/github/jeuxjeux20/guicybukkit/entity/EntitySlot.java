@@ -0,0 +1,47 @@
+package com.github.jeuxjeux20.guicybukkit.entity;
+
+import org.bukkit.entity.Entity;
+
+/**
+ * A typed piece of state attached to entities, created by an {@link EntityStateStore}.
+ * <p>
+ * The state of an entity is removed from the slots keyed by entity id when the entity is removed from its world,
+ * which includes entities unloading with their chunk, and players changing dimension.
+ * {@linkplain UuidEntitySlot UUID slots} keep the state of players until they quit.
+ *
+ * @see EntityStateStore
+ */
+public abstract class EntitySlot {
+
+    EntitySlot() {
+    }
+
+    /**
+     * Returns whether the state of a player is kept in this slot when the player is removed from its world,
+     * until the player quits.
+     *
+     * @return true if the state of players is kept until they quit, false otherwise
+     */
+    boolean keepsPlayersUntilQuit() {
+        return false;
+    }
+
+    /**
+     * Removes the state of the specified {@code entity} in this slot.
+     *
+     * @param entity the entity
+     */
+    public abstract void remove(Entity entity);
+
+    /**
+     * Gets the number of entities with a state in this slot.
+     *
+     * @return the number of entities
+     */
+    public abstract int size();
+
+    /**
+     * Removes the state of every entity in this slot.
+     */
+    public abstract void clear();
+}
@@ -0,0 +1,159 @@
+package com.github.jeuxjeux20.guicybukkit.entity;
+
+import com.destroystokyo.paper.event.entity.EntityRemoveFromWorldEvent;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.world.EntitiesUnloadEvent;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Stores state attached to entities in typed {@linkplain EntitySlot slots}, backed by primitive
+ * open-addressing maps instead of {@code Map<UUID, Integer>} or {@code Map<Integer, Object>} side tables.
+ * <p>
+ * The state of an entity is removed when the entity is removed from its world,
+ * or when it unloads with its chunk, as this store is also a {@link Listener}.
+ * {@linkplain UuidEntitySlot UUID slots} keep the state of players, which are removed from their world
+ * when changing dimension, until they quit.
+ * <p>
+ * Slots are usually created once, when a component is constructed:
+ * <pre>
+ * public class AngryMobListener implements Listener {
+ *     private final IntEntitySlot hits;
+ *
+ *     &#64;Inject
+ *     public AngryMobListener(EntityStateStore store) {
+ *         this.hits = store.newIntSlot(0);
+ *     }
+ *
+ *     &#64;EventHandler
+ *     public void onDamage(EntityDamageByEntityEvent event) {
+ *         if (event.getEntity() instanceof Mob &amp;&amp; hits.add(event.getEntity(), 1) == 3) {
+ *             // The mob was hit three times, call for help!
+ *         }
+ *     }
+ * }
+ * </pre>
+ * State attached to players, such as kill counts, belongs in a {@linkplain #newUuidSlot() UUID slot},
+ * so it is not lost when they change dimension.
+ * This class, as well as its slots, must only be used on the server thread.
+ *
+ * @see com.github.jeuxjeux20.guicybukkit.PluginModule#installEntityStateStore()
+ */
+public final class EntityStateStore implements Listener {
+    private final List<EntitySlot> slots = new CopyOnWriteArrayList<>();
+
+    /**
+     * Creates a new slot holding objects, keyed by {@linkplain Entity#getEntityId() entity id}.
+     *
+     * @param <T> the type of the state
+     * @return the new slot
+     */
+    public <T> ObjectEntitySlot<T> newSlot() {
+        return register(new ObjectEntitySlot<>());
+    }
+
+    /**
+     * Creates a new slot holding primitive {@code int}s, keyed by {@linkplain Entity#getEntityId() entity id}.
+     *
+     * @param defaultValue the value of entities without a state
+     * @return the new slot
+     */
+    public IntEntitySlot newIntSlot(int defaultValue) {
+        return register(new IntEntitySlot(defaultValue));
+    }
+
+    /**
+     * Creates a new slot holding objects, keyed by {@linkplain Entity#getUniqueId() entity UUID}.
+     *
+     * @param <T> the type of the state
+     * @return the new slot
+     */
+    public <T> UuidEntitySlot<T> newUuidSlot() {
+        return register(new UuidEntitySlot<>());
+    }
+
+    /**
+     * Removes the specified {@code slot} from this store, so it is no longer cleaned up.
+     *
+     * @param slot the slot to remove
+     */
+    public void removeSlot(EntitySlot slot) {
+        slots.remove(slot);
+    }
+
+    /**
+     * Removes the state of the specified {@code entity} in every slot, including {@linkplain UuidEntitySlot UUID slots}.
+     *
+     * @param entity the entity
+     */
+    public void remove(Entity entity) {
+        for (EntitySlot slot : slots) {
+            slot.remove(entity);
+        }
+    }
+
+    /**
+     * Removes the state of the specified {@code entity} removed from its world, in every slot
+     * except the ones keeping the state of players until they quit.
+     */
+    private void unload(Entity entity) {
+        boolean player = entity instanceof Player;
+        for (EntitySlot slot : slots) {
+            if (!player || !slot.keepsPlayersUntilQuit()) {
+                slot.remove(entity);
+            }
+        }
+    }
+
+    /**
+     * Removes the state of every entity in every slot.
+     */
+    public void clear() {
+        for (EntitySlot slot : slots) {
+            slot.clear();
+        }
+    }
+
+    /**
+     * Removes the state of the removed entity.
+     *
+     * @param event the event
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onEntityRemove(EntityRemoveFromWorldEvent event) {
+        unload(event.getEntity());
+    }
+
+    /**
+     * Removes the state of the unloaded entities.
+     *
+     * @param event the event
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onEntitiesUnload(EntitiesUnloadEvent event) {
+        for (Entity entity : event.getEntities()) {
+            unload(entity);
+        }
+    }
+
+    /**
+     * Removes the state of the player who quit, in every slot.
+     *
+     * @param event the event
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        remove(event.getPlayer());
+    }
+
+    private <S extends EntitySlot> S register(S slot) {
+        slots.add(slot);
+        return slot;
+    }
+}
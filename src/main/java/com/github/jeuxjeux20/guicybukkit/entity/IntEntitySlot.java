@@ -0,0 +1,96 @@
+package com.github.jeuxjeux20.guicybukkit.entity;
+
+import com.github.jeuxjeux20.guicybukkit.util.IntIntHashMap;
+import org.bukkit.entity.Entity;
+
+/**
+ * An {@link EntitySlot} holding primitive {@code int}s, keyed by {@linkplain Entity#getEntityId() entity id}.
+ * <p>
+ * Entities without a state have the {@linkplain #getDefaultValue() default value}.
+ *
+ * @see EntityStateStore#newIntSlot(int)
+ */
+public final class IntEntitySlot extends EntitySlot {
+    private final IntIntHashMap states;
+
+    IntEntitySlot(int defaultValue) {
+        this.states = new IntIntHashMap(0, defaultValue);
+    }
+
+    /**
+     * Gets the value of entities without a state.
+     *
+     * @return the default value
+     */
+    public int getDefaultValue() {
+        return states.getDefaultValue();
+    }
+
+    /**
+     * Gets the state of the specified {@code entity}, or the {@linkplain #getDefaultValue() default value}.
+     *
+     * @param entity the entity
+     * @return the state
+     */
+    public int get(Entity entity) {
+        return states.get(entity.getEntityId());
+    }
+
+    /**
+     * Gets the state of the entity with the specified {@code entityId},
+     * or the {@linkplain #getDefaultValue() default value}.
+     *
+     * @param entityId the entity id
+     * @return the state
+     */
+    public int get(int entityId) {
+        return states.get(entityId);
+    }
+
+    /**
+     * Returns whether the specified {@code entity} has a state in this slot.
+     *
+     * @param entity the entity
+     * @return true if the entity has a state, false otherwise
+     */
+    public boolean contains(Entity entity) {
+        return states.containsKey(entity.getEntityId());
+    }
+
+    /**
+     * Sets the state of the specified {@code entity}.
+     *
+     * @param entity the entity
+     * @param state the state
+     * @return the previous state, or the default value
+     */
+    public int set(Entity entity, int state) {
+        return states.put(entity.getEntityId(), state);
+    }
+
+    /**
+     * Adds the specified {@code delta} to the state of the specified {@code entity}.
+     *
+     * @param entity the entity
+     * @param delta the value to add
+     * @return the new state
+     */
+    public int add(Entity entity, int delta) {
+        return states.addTo(entity.getEntityId(), delta);
+    }
+
+    @Override
+    public void remove(Entity entity) {
+        states.remove(entity.getEntityId());
+    }
+
+    @Override
+    public int size() {
+        return states.size();
+    }
+
+    @Override
+    public void clear() {
+        states.clear();
+    }
+}
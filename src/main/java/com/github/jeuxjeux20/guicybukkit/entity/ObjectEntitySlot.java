@@ -0,0 +1,86 @@
+package com.github.jeuxjeux20.guicybukkit.entity;
+
+import com.github.jeuxjeux20.guicybukkit.util.LongObjectHashMap;
+import org.bukkit.entity.Entity;
+
+import javax.annotation.Nullable;
+import java.util.function.Function;
+
+/**
+ * An {@link EntitySlot} holding non-null objects, keyed by {@linkplain Entity#getEntityId() entity id}.
+ *
+ * @param <T> the type of the state
+ * @see EntityStateStore#newSlot()
+ */
+public final class ObjectEntitySlot<T> extends EntitySlot {
+    // Entity ids are widened to long keys, which is lossless.
+    private final LongObjectHashMap<T> states = new LongObjectHashMap<>();
+
+    ObjectEntitySlot() {
+    }
+
+    /**
+     * Gets the state of the specified {@code entity}, or {@code null} if there is none.
+     *
+     * @param entity the entity
+     * @return the state, or null
+     */
+    @Nullable
+    public T get(Entity entity) {
+        return get(entity.getEntityId());
+    }
+
+    /**
+     * Gets the state of the entity with the specified {@code entityId}, or {@code null} if there is none.
+     *
+     * @param entityId the entity id
+     * @return the state, or null
+     */
+    @Nullable
+    public T get(int entityId) {
+        return states.get(entityId);
+    }
+
+    /**
+     * Gets the state of the specified {@code entity}, computing it with {@code factory} if there is none.
+     *
+     * @param entity the entity
+     * @param factory the function computing the state of the entity, which cannot return null
+     * @return the state
+     */
+    public T getOrCreate(Entity entity, Function<? super Entity, ? extends T> factory) {
+        T state = states.get(entity.getEntityId());
+        if (state == null) {
+            state = factory.apply(entity);
+            states.put(entity.getEntityId(), state);
+        }
+        return state;
+    }
+
+    /**
+     * Sets the state of the specified {@code entity}.
+     *
+     * @param entity the entity
+     * @param state the state, which cannot be null
+     * @return the previous state, or null
+     */
+    @Nullable
+    public T set(Entity entity, T state) {
+        return states.put(entity.getEntityId(), state);
+    }
+
+    @Override
+    public void remove(Entity entity) {
+        states.remove(entity.getEntityId());
+    }
+
+    @Override
+    public int size() {
+        return states.size();
+    }
+
+    @Override
+    public void clear() {
+        states.clear();
+    }
+}
@@ -0,0 +1,87 @@
+package com.github.jeuxjeux20.guicybukkit.entity;
+
+import com.github.jeuxjeux20.guicybukkit.util.UuidObjectHashMap;
+import org.bukkit.entity.Entity;
+
+import javax.annotation.Nullable;
+import java.util.UUID;
+
+/**
+ * An {@link EntitySlot} holding non-null objects, keyed by {@linkplain Entity#getUniqueId() entity UUID}.
+ * <p>
+ * Unlike the other slots, the state of a player in this slot is kept when the player is removed from its world,
+ * so it survives players changing dimension or respawning. It is removed when the player quits.
+ * The state of other entities is removed when they are removed from their world, like in the other slots.
+ *
+ * @param <T> the type of the state
+ * @see EntityStateStore#newUuidSlot()
+ */
+public final class UuidEntitySlot<T> extends EntitySlot {
+    private final UuidObjectHashMap<T> states = new UuidObjectHashMap<>();
+
+    UuidEntitySlot() {
+    }
+
+    /**
+     * Gets the state of the specified {@code entity}, or {@code null} if there is none.
+     *
+     * @param entity the entity
+     * @return the state, or null
+     */
+    @Nullable
+    public T get(Entity entity) {
+        return get(entity.getUniqueId());
+    }
+
+    /**
+     * Gets the state of the entity with the specified {@code uniqueId}, or {@code null} if there is none.
+     *
+     * @param uniqueId the entity's UUID
+     * @return the state, or null
+     */
+    @Nullable
+    public T get(UUID uniqueId) {
+        return states.get(uniqueId);
+    }
+
+    /**
+     * Sets the state of the specified {@code entity}.
+     *
+     * @param entity the entity
+     * @param state the state, which cannot be null
+     * @return the previous state, or null
+     */
+    @Nullable
+    public T set(Entity entity, T state) {
+        return states.put(entity.getUniqueId(), state);
+    }
+
+    /**
+     * Removes the state of the entity with the specified {@code uniqueId} in this slot.
+     *
+     * @param uniqueId the entity's UUID
+     */
+    public void remove(UUID uniqueId) {
+        states.remove(uniqueId);
+    }
+
+    @Override
+    public void remove(Entity entity) {
+        states.remove(entity.getUniqueId());
+    }
+
+    @Override
+    boolean keepsPlayersUntilQuit() {
+        return true;
+    }
+
+    @Override
+    public int size() {
+        return states.size();
+    }
+
+    @Override
+    public void clear() {
+        states.clear();
+    }
+}
@@ -0,0 +1,7 @@
+/**
+ * Provides an injectable store of state attached to entities, cleaned up when entities are removed or players quit.
+ */
+@ParametersAreNonnullByDefault
+package com.github.jeuxjeux20.guicybukkit.entity;
+
+import javax.annotation.ParametersAreNonnullByDefault;
@@ -0,0 +1,246 @@
+package com.github.jeuxjeux20.guicybukkit.scope;
+
+import com.google.inject.Key;
+import com.google.inject.OutOfScopeException;
+import com.google.inject.Provider;
+import com.google.inject.Scope;
+
+import javax.annotation.Nullable;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A {@link Scope} keeping its instances in buckets (one per world, chunk...), with a maximum number
+ * of instances across all buckets.
+ * <p>
+ * The bucket of the current thread is chosen using {@link #enterContext(Object)} and {@link #exit()}.
+ * When the maximum size is reached, the least recently used buckets are evicted first.
+ * <p>
+ * Instances are created while holding this scope's lock, so an instance is never created twice for
+ * the same bucket; scoped constructors should therefore stay cheap.
+ *
+ * @param <C> the type of the context used to enter the scope
+ * @param <B> the type of the buckets
+ */
+abstract class BoundedScope<C, B extends BoundedScope.Bucket> implements Scope {
+    /**
+     * The value stored in place of {@code null} instances.
+     */
+    private static final Object NULL = new Object();
+
+    private final ThreadLocal<C> currentContext = new ThreadLocal<>();
+    private final int maximumSize;
+    private final String name;
+
+    private int size;
+    // Buckets ordered by last use, from the least recently used (head) to the most recently used (tail).
+    private @Nullable Bucket head;
+    private @Nullable Bucket tail;
+
+    BoundedScope(int maximumSize, String name) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("The maximum size must be positive: " + maximumSize);
+        }
+        this.maximumSize = maximumSize;
+        this.name = name;
+    }
+
+    /**
+     * Finds the bucket of the specified {@code context}.
+     *
+     * @param context the context
+     * @return the bucket, or null if there is none
+     */
+    abstract @Nullable B findBucket(C context);
+
+    /**
+     * Creates and indexes a new bucket for the specified {@code context}.
+     *
+     * @param context the context
+     * @return the new bucket
+     */
+    abstract B createBucket(C context);
+
+    /**
+     * Removes the specified {@code bucket} from the index.
+     *
+     * @param bucket the bucket to remove
+     */
+    abstract void unindexBucket(B bucket);
+
+    /**
+     * Enters this scope with the specified {@code context} on the current thread.
+     *
+     * @param context the context
+     * @throws IllegalStateException when the current thread is already in this scope
+     */
+    final void enterContext(C context) {
+        if (currentContext.get() != null) {
+            throw new IllegalStateException("Already in the " + name + " scope.");
+        }
+        currentContext.set(context);
+    }
+
+    /**
+     * Exits this scope on the current thread.
+     *
+     * @throws IllegalStateException when the current thread is not in this scope
+     */
+    public final void exit() {
+        if (currentContext.get() == null) {
+            throw new IllegalStateException("Not in the " + name + " scope.");
+        }
+        currentContext.remove();
+    }
+
+    /**
+     * Gets the maximum number of instances this scope keeps, across all of its buckets.
+     *
+     * @return the maximum number of instances
+     */
+    public final int getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * Gets the number of instances this scope currently keeps.
+     *
+     * @return the number of instances
+     */
+    public final synchronized int size() {
+        return size;
+    }
+
+    /**
+     * Evicts every instance of this scope.
+     */
+    @SuppressWarnings("unchecked")
+    public final synchronized void evictAll() {
+        while (head != null) {
+            evictBucket((B) head);
+        }
+    }
+
+    /**
+     * Evicts every instance of the specified {@code bucket}.
+     *
+     * @param bucket the bucket to evict
+     */
+    final synchronized void evictBucket(B bucket) {
+        unindexBucket(bucket);
+        unlink(bucket);
+        size -= bucket.instances.size();
+        bucket.instances.clear();
+    }
+
+    @Override
+    public final <T> Provider<T> scope(Key<T> key, Provider<T> unscoped) {
+        return new Provider<T>() {
+            @Override
+            public T get() {
+                C context = currentContext.get();
+                if (context == null) {
+                    throw new OutOfScopeException("Cannot access " + key + " outside of the " + name + " scope.");
+                }
+                return getOrCreate(context, key, unscoped);
+            }
+
+            @Override
+            public String toString() {
+                return unscoped + "[" + name + "]";
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private synchronized <T> T getOrCreate(C context, Key<T> key, Provider<T> unscoped) {
+        B bucket = findBucket(context);
+        if (bucket != null) {
+            Object instance = bucket.instances.get(key);
+            if (instance != null) {
+                moveToTail(bucket);
+                return instance == NULL ? null : (T) instance;
+            }
+        }
+
+        // The provider may itself request instances from this scope, so the bucket is looked up again after it.
+        T instance = unscoped.get();
+
+        bucket = findBucket(context);
+        if (bucket == null) {
+            bucket = createBucket(context);
+            link(bucket);
+        } else {
+            moveToTail(bucket);
+        }
+        Object existing = bucket.instances.putIfAbsent(key, instance == null ? NULL : instance);
+        if (existing != null) {
+            return existing == NULL ? null : (T) existing;
+        }
+        size++;
+        trimToSize(bucket);
+        return instance;
+    }
+
+    /**
+     * Evicts the least recently used buckets until the size is within the maximum size.
+     * The {@code keptBucket} is never evicted, so a single bucket may exceed the maximum size on its own.
+     */
+    @SuppressWarnings("unchecked")
+    private void trimToSize(Bucket keptBucket) {
+        Bucket bucket = head;
+        while (size > maximumSize && bucket != null) {
+            Bucket next = bucket.newer;
+            if (bucket != keptBucket) {
+                evictBucket((B) bucket);
+            }
+            bucket = next;
+        }
+    }
+
+    private void link(Bucket bucket) {
+        bucket.older = tail;
+        if (tail == null) {
+            head = bucket;
+        } else {
+            tail.newer = bucket;
+        }
+        tail = bucket;
+    }
+
+    private void moveToTail(Bucket bucket) {
+        if (bucket != tail) {
+            unlink(bucket);
+            link(bucket);
+        }
+    }
+
+    private void unlink(Bucket bucket) {
+        if (bucket.older == null) {
+            head = bucket.newer;
+        } else {
+            bucket.older.newer = bucket.newer;
+        }
+        if (bucket.newer == null) {
+            tail = bucket.older;
+        } else {
+            bucket.newer.older = bucket.older;
+        }
+        bucket.older = null;
+        bucket.newer = null;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+
+    /**
+     * Contains the instances of a single context, such as a world or a chunk.
+     */
+    static class Bucket {
+        final Map<Key<?>, Object> instances = new HashMap<>(4);
+        @Nullable Bucket older;
+        @Nullable Bucket newer;
+    }
+}
@@ -0,0 +1,194 @@
+package com.github.jeuxjeux20.guicybukkit.scope;
+
+import com.github.jeuxjeux20.guicybukkit.util.LongObjectHashMap;
+import org.bukkit.Chunk;
+import org.bukkit.World;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.world.ChunkUnloadEvent;
+import org.bukkit.event.world.WorldUnloadEvent;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * A scope keeping one instance per chunk, keyed by the {@linkplain World#getUID() world's UUID} and the
+ * {@linkplain #chunkKey(int, int) packed chunk coordinates}. Types in this scope are annotated with {@link ChunkScoped}.
+ * <p>
+ * Instances are evicted when their chunk or their world unloads, as this scope is also a {@link Listener} of
+ * {@link ChunkUnloadEvent}s and {@link WorldUnloadEvent}s. The total number of instances is capped by the
+ * {@linkplain #getMaximumSize() maximum size}: when it is exceeded, the instances of the least recently used
+ * chunks are evicted.
+ * <p>
+ * Scoped instances can only be obtained between {@link #enter(Chunk)} and {@link #exit()}:
+ * <pre>
+ * chunkScope.enter(chunk);
+ * try {
+ *     RegionLookup lookup = regionLookupProvider.get();
+ *     // ...
+ * } finally {
+ *     chunkScope.exit();
+ * }
+ * </pre>
+ *
+ * @see ChunkScoped
+ * @see com.github.jeuxjeux20.guicybukkit.PluginModule#installChunkScope(int)
+ */
+public final class ChunkScope extends BoundedScope<Chunk, ChunkScope.ChunkBucket> implements Listener {
+
+    /**
+     * The default maximum number of instances of a {@link ChunkScope}.
+     */
+    public static final int DEFAULT_MAXIMUM_SIZE = 65536;
+
+    private final Map<UUID, LongObjectHashMap<ChunkBucket>> buckets = new HashMap<>();
+
+    /**
+     * Creates a new {@link ChunkScope} with the {@linkplain #DEFAULT_MAXIMUM_SIZE default maximum size}.
+     */
+    public ChunkScope() {
+        this(DEFAULT_MAXIMUM_SIZE);
+    }
+
+    /**
+     * Creates a new {@link ChunkScope} keeping at most {@code maximumSize} instances.
+     *
+     * @param maximumSize the maximum number of instances across all chunks
+     * @throws IllegalArgumentException when {@code maximumSize} is not positive
+     */
+    public ChunkScope(int maximumSize) {
+        super(maximumSize, "ChunkScope");
+    }
+
+    /**
+     * Packs the specified chunk coordinates in a single {@code long}.
+     *
+     * @param x the chunk's X coordinate
+     * @param z the chunk's Z coordinate
+     * @return the packed coordinates
+     */
+    public static long chunkKey(int x, int z) {
+        return (x & 0xFFFFFFFFL) | ((z & 0xFFFFFFFFL) << 32);
+    }
+
+    /**
+     * Enters this scope with the specified {@code chunk} on the current thread.
+     *
+     * @param chunk the chunk
+     * @throws IllegalStateException when the current thread is already in this scope
+     */
+    public void enter(Chunk chunk) {
+        enterContext(chunk);
+    }
+
+    /**
+     * Evicts every instance of the specified {@code chunk}.
+     *
+     * @param chunk the chunk
+     */
+    public void evict(Chunk chunk) {
+        evict(chunk.getWorld().getUID(), chunkKey(chunk.getX(), chunk.getZ()));
+    }
+
+    /**
+     * Evicts every instance of the chunk at the specified {@linkplain #chunkKey(int, int) packed coordinates},
+     * in the world with the specified {@code worldId}.
+     *
+     * @param worldId the world's UUID
+     * @param chunkKey the packed chunk coordinates
+     */
+    public synchronized void evict(UUID worldId, long chunkKey) {
+        LongObjectHashMap<ChunkBucket> worldBuckets = buckets.get(worldId);
+        if (worldBuckets != null) {
+            ChunkBucket bucket = worldBuckets.get(chunkKey);
+            if (bucket != null) {
+                evictBucket(bucket);
+            }
+        }
+    }
+
+    /**
+     * Evicts every instance of every chunk in the specified {@code world}.
+     *
+     * @param world the world
+     */
+    public void evict(World world) {
+        evict(world.getUID());
+    }
+
+    /**
+     * Evicts every instance of every chunk in the world with the specified {@code worldId}.
+     *
+     * @param worldId the world's UUID
+     */
+    public synchronized void evict(UUID worldId) {
+        LongObjectHashMap<ChunkBucket> worldBuckets = buckets.get(worldId);
+        if (worldBuckets != null) {
+            // Evicting a bucket modifies the map, so copy the buckets beforehand.
+            List<ChunkBucket> evicted = new ArrayList<>(worldBuckets.size());
+            worldBuckets.forEachValue(evicted::add);
+            for (ChunkBucket bucket : evicted) {
+                evictBucket(bucket);
+            }
+        }
+    }
+
+    /**
+     * Evicts the instances of the unloaded chunk.
+     *
+     * @param event the event
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onChunkUnload(ChunkUnloadEvent event) {
+        evict(event.getChunk());
+    }
+
+    /**
+     * Evicts the instances of every chunk of the unloaded world.
+     *
+     * @param event the event
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onWorldUnload(WorldUnloadEvent event) {
+        evict(event.getWorld());
+    }
+
+    @Override
+    @Nullable ChunkBucket findBucket(Chunk chunk) {
+        LongObjectHashMap<ChunkBucket> worldBuckets = buckets.get(chunk.getWorld().getUID());
+        return worldBuckets == null ? null : worldBuckets.get(chunkKey(chunk.getX(), chunk.getZ()));
+    }
+
+    @Override
+    ChunkBucket createBucket(Chunk chunk) {
+        ChunkBucket bucket = new ChunkBucket(chunk.getWorld().getUID(), chunkKey(chunk.getX(), chunk.getZ()));
+        buckets.computeIfAbsent(bucket.worldId, id -> new LongObjectHashMap<>()).put(bucket.chunkKey, bucket);
+        return bucket;
+    }
+
+    @Override
+    void unindexBucket(ChunkBucket bucket) {
+        LongObjectHashMap<ChunkBucket> worldBuckets = buckets.get(bucket.worldId);
+        if (worldBuckets != null) {
+            worldBuckets.remove(bucket.chunkKey);
+            if (worldBuckets.isEmpty()) {
+                buckets.remove(bucket.worldId);
+            }
+        }
+    }
+
+    static final class ChunkBucket extends BoundedScope.Bucket {
+        final UUID worldId;
+        final long chunkKey;
+
+        ChunkBucket(UUID worldId, long chunkKey) {
+            this.worldId = worldId;
+            this.chunkKey = chunkKey;
+        }
+    }
+}
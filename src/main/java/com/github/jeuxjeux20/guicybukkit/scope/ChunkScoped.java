@@ -0,0 +1,19 @@
+package com.github.jeuxjeux20.guicybukkit.scope;
+
+import com.google.inject.ScopeAnnotation;
+
+import java.lang.annotation.*;
+
+/**
+ * Applies the {@link ChunkScope} to a type: one instance is created per chunk, and is evicted
+ * when the chunk or its world unloads.
+ *
+ * @see ChunkScope
+ * @see com.github.jeuxjeux20.guicybukkit.PluginModule#installChunkScope(int)
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+@ScopeAnnotation
+public @interface ChunkScoped {
+}
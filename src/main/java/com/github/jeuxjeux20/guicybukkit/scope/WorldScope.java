@@ -0,0 +1,127 @@
+package com.github.jeuxjeux20.guicybukkit.scope;
+
+import org.bukkit.World;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.world.WorldUnloadEvent;
+
+import javax.annotation.Nullable;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * A scope keeping one instance per world, keyed by the {@linkplain World#getUID() world's UUID}.
+ * Types in this scope are annotated with {@link WorldScoped}.
+ * <p>
+ * Instances are evicted when their world unloads, as this scope is also a {@link Listener} of
+ * {@link WorldUnloadEvent}s. The total number of instances is capped by the {@linkplain #getMaximumSize()
+ * maximum size}: when it is exceeded, the instances of the least recently used worlds are evicted.
+ * <p>
+ * Scoped instances can only be obtained between {@link #enter(World)} and {@link #exit()}:
+ * <pre>
+ * worldScope.enter(world);
+ * try {
+ *     SpawnCache cache = spawnCacheProvider.get();
+ *     // ...
+ * } finally {
+ *     worldScope.exit();
+ * }
+ * </pre>
+ *
+ * @see WorldScoped
+ * @see com.github.jeuxjeux20.guicybukkit.PluginModule#installWorldScope(int)
+ */
+public final class WorldScope extends BoundedScope<UUID, WorldScope.WorldBucket> implements Listener {
+
+    /**
+     * The default maximum number of instances of a {@link WorldScope}.
+     */
+    public static final int DEFAULT_MAXIMUM_SIZE = 4096;
+
+    private final Map<UUID, WorldBucket> buckets = new HashMap<>();
+
+    /**
+     * Creates a new {@link WorldScope} with the {@linkplain #DEFAULT_MAXIMUM_SIZE default maximum size}.
+     */
+    public WorldScope() {
+        this(DEFAULT_MAXIMUM_SIZE);
+    }
+
+    /**
+     * Creates a new {@link WorldScope} keeping at most {@code maximumSize} instances.
+     *
+     * @param maximumSize the maximum number of instances across all worlds
+     * @throws IllegalArgumentException when {@code maximumSize} is not positive
+     */
+    public WorldScope(int maximumSize) {
+        super(maximumSize, "WorldScope");
+    }
+
+    /**
+     * Enters this scope with the specified {@code world} on the current thread.
+     *
+     * @param world the world
+     * @throws IllegalStateException when the current thread is already in this scope
+     */
+    public void enter(World world) {
+        enterContext(world.getUID());
+    }
+
+    /**
+     * Evicts every instance of the specified {@code world}.
+     *
+     * @param world the world
+     */
+    public void evict(World world) {
+        evict(world.getUID());
+    }
+
+    /**
+     * Evicts every instance of the world with the specified {@code worldId}.
+     *
+     * @param worldId the world's UUID
+     */
+    public synchronized void evict(UUID worldId) {
+        WorldBucket bucket = buckets.get(worldId);
+        if (bucket != null) {
+            evictBucket(bucket);
+        }
+    }
+
+    /**
+     * Evicts the instances of the unloaded world.
+     *
+     * @param event the event
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onWorldUnload(WorldUnloadEvent event) {
+        evict(event.getWorld());
+    }
+
+    @Override
+    @Nullable WorldBucket findBucket(UUID worldId) {
+        return buckets.get(worldId);
+    }
+
+    @Override
+    WorldBucket createBucket(UUID worldId) {
+        WorldBucket bucket = new WorldBucket(worldId);
+        buckets.put(worldId, bucket);
+        return bucket;
+    }
+
+    @Override
+    void unindexBucket(WorldBucket bucket) {
+        buckets.remove(bucket.worldId);
+    }
+
+    static final class WorldBucket extends BoundedScope.Bucket {
+        final UUID worldId;
+
+        WorldBucket(UUID worldId) {
+            this.worldId = worldId;
+        }
+    }
+}
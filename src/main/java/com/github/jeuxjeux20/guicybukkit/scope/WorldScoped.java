@@ -0,0 +1,19 @@
+package com.github.jeuxjeux20.guicybukkit.scope;
+
+import com.google.inject.ScopeAnnotation;
+
+import java.lang.annotation.*;
+
+/**
+ * Applies the {@link WorldScope} to a type: one instance is created per world, and is evicted
+ * when the world unloads.
+ *
+ * @see WorldScope
+ * @see com.github.jeuxjeux20.guicybukkit.PluginModule#installWorldScope(int)
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+@ScopeAnnotation
+public @interface WorldScoped {
+}
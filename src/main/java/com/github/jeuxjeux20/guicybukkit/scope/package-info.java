@@ -0,0 +1,7 @@
+/**
+ * Provides Guice scopes bound to worlds and chunks, evicted when they unload.
+ */
+@ParametersAreNonnullByDefault
+package com.github.jeuxjeux20.guicybukkit.scope;
+
+import javax.annotation.ParametersAreNonnullByDefault;
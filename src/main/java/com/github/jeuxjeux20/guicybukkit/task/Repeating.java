@@ -0,0 +1,55 @@
+package com.github.jeuxjeux20.guicybukkit.task;
+
+import java.lang.annotation.*;
+
+/**
+ * Defines how often a {@link ScheduledTask} runs, and how long each run is expected to take.
+ *
+ * @see ScheduledTask
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface Repeating {
+
+    /**
+     * Gets the number of ticks between two runs of the task.
+     *
+     * @return the period, in ticks
+     */
+    long value();
+
+    /**
+     * Gets the time a single run of the task is expected to take at most, in microseconds,
+     * or {@code 0} for no budget.
+     * <p>
+     * This budget is advisory: runs exceeding it are only counted and logged,
+     * and the task keeps running at its period.
+     *
+     * @return the time budget, in microseconds
+     */
+    long budgetMicros() default 0;
+
+    /**
+     * Contains helpful methods for {@link Repeating}.
+     */
+    final class Helper {
+        private Helper() {
+        }
+
+        /**
+         * Gets the {@link Repeating} annotation of the specified class.
+         * <p>
+         * If there is no {@link Repeating} annotation, a {@link UnsupportedOperationException} will be thrown.
+         * @throws UnsupportedOperationException when no {@link Repeating} annotation on the class has been found.
+         * @param clazz the class annotated with {@link Repeating} or not
+         * @return the annotation
+         */
+        public static Repeating getRepeatingOrThrow(Class<?> clazz) {
+            Repeating annotation = clazz.getAnnotation(Repeating.class);
+            if (annotation == null)
+                throw new UnsupportedOperationException("No @Repeating annotation found on class " + clazz.getName() + ".");
+            return annotation;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.github.jeuxjeux20.guicybukkit.task;
+
+import com.github.jeuxjeux20.guicybukkit.PluginDependencies;
+import com.github.jeuxjeux20.guicybukkit.PluginModule;
+
+/**
+ * A task running repeatedly on the server thread, every {@linkplain #getPeriod() period} ticks.
+ * <p>
+ * This interface can be used with Guice using a {@link PluginModule}, and started with {@link PluginDependencies}.
+ * Every task is then driven by a single {@link TaskWheel}, instead of each task having its own Bukkit task.
+ * <p>
+ * The period and time budget can be defined using the {@link Repeating} annotation:
+ * <pre>
+ * &#064;Repeating(value = 20, budgetMicros = 500)
+ * public class ScoreboardRefreshTask implements ScheduledTask {
+ *     &#064;Override
+ *     public void run() {
+ *         // Runs every second, and should take less than 0.5 ms.
+ *     }
+ * }</pre>
+ *
+ * @see Repeating
+ * @see TaskWheel
+ */
+public interface ScheduledTask extends Runnable {
+
+    /**
+     * Gets the number of ticks between two runs of this task.
+     *
+     * @return the period, in ticks
+     * @throws UnsupportedOperationException when no {@link Repeating} annotation on this type has been found.
+     * @implSpec The default implementation gets the {@link Repeating#value()} of this object's class.
+     */
+    default long getPeriod() {
+        return Repeating.Helper.getRepeatingOrThrow(this.getClass()).value();
+    }
+
+    /**
+     * Gets the time a single run of this task is expected to take at most, in nanoseconds,
+     * or {@code 0} for no budget. Runs exceeding it are counted as {@linkplain TaskMetrics#getOverrunCount() overruns},
+     * but the budget is advisory and does not change when this task runs.
+     *
+     * @return the time budget, in nanoseconds
+     * @throws UnsupportedOperationException when no {@link Repeating} annotation on this type has been found.
+     * @implSpec The default implementation gets the {@link Repeating#budgetMicros()} of this object's class.
+     */
+    default long getTimeBudgetNanos() {
+        return Repeating.Helper.getRepeatingOrThrow(this.getClass()).budgetMicros() * 1000;
+    }
+}
@@ -0,0 +1,102 @@
+package com.github.jeuxjeux20.guicybukkit.task;
+
+/**
+ * Contains the run durations of a {@link ScheduledTask} driven by a {@link TaskWheel}.
+ * <p>
+ * The metrics are updated on the server thread as the task runs.
+ *
+ * @see TaskWheel#getMetrics()
+ */
+public final class TaskMetrics {
+    private final ScheduledTask task;
+    private long runCount;
+    private long overrunCount;
+    private long totalNanos;
+    private long maxNanos;
+    private long lastNanos;
+
+    TaskMetrics(ScheduledTask task) {
+        this.task = task;
+    }
+
+    void record(long nanos, boolean overrun) {
+        runCount++;
+        totalNanos += nanos;
+        lastNanos = nanos;
+        if (nanos > maxNanos) {
+            maxNanos = nanos;
+        }
+        if (overrun) {
+            overrunCount++;
+        }
+    }
+
+    /**
+     * Gets the task these metrics are about.
+     *
+     * @return the task
+     */
+    public ScheduledTask getTask() {
+        return task;
+    }
+
+    /**
+     * Gets the number of times the task ran.
+     *
+     * @return the number of runs
+     */
+    public long getRunCount() {
+        return runCount;
+    }
+
+    /**
+     * Gets the number of runs that exceeded the task's {@linkplain ScheduledTask#getTimeBudgetNanos() time budget}.
+     *
+     * @return the number of overruns
+     */
+    public long getOverrunCount() {
+        return overrunCount;
+    }
+
+    /**
+     * Gets the time spent running the task, in nanoseconds.
+     *
+     * @return the total duration, in nanoseconds
+     */
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    /**
+     * Gets the duration of the longest run, in nanoseconds.
+     *
+     * @return the maximum duration, in nanoseconds
+     */
+    public long getMaxNanos() {
+        return maxNanos;
+    }
+
+    /**
+     * Gets the duration of the last run, in nanoseconds.
+     *
+     * @return the last duration, in nanoseconds
+     */
+    public long getLastNanos() {
+        return lastNanos;
+    }
+
+    /**
+     * Gets the average duration of a run, in nanoseconds, or {@code 0} if the task never ran.
+     *
+     * @return the average duration, in nanoseconds
+     */
+    public long getAverageNanos() {
+        return runCount == 0 ? 0 : totalNanos / runCount;
+    }
+
+    @Override
+    public String toString() {
+        return task.getClass().getName() + ": " + runCount + " runs, avg " + getAverageNanos() / 1000 + " us, max "
+               + maxNanos / 1000 + " us, " + overrunCount + " overruns";
+    }
+}
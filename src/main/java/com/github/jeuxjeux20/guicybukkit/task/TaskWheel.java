@@ -0,0 +1,301 @@
+package com.github.jeuxjeux20.guicybukkit.task;
+
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.logging.Level;
+
+/**
+ * Drives many {@linkplain ScheduledTask scheduled tasks} using a hashed timing wheel,
+ * ticked by a single repeating Bukkit task.
+ * <p>
+ * The wheel is made of {@linkplain #getWheelSize() a number of} slots, one per tick, in which tasks are placed
+ * depending on the tick they should run next. Each tick, only the tasks in the current slot are looked at.
+ * <p>
+ * When started, tasks are spread over the ticks of their first period, each one being placed in the least
+ * occupied slot, so tasks with the same period do not all run on the same tick.
+ * <p>
+ * Each run is timed, and recorded in the {@linkplain #getMetrics() metrics} of its task.
+ * Runs exceeding the {@linkplain ScheduledTask#getTimeBudgetNanos() time budget} of their task are counted
+ * as overruns, and logged. Budgets are advisory: they do not change when tasks run.
+ * <p>
+ * This class must only be used on the server thread. A {@link com.github.jeuxjeux20.guicybukkit.PluginModule}
+ * binds a single instance of it, driving every bound task.
+ *
+ * @see ScheduledTask
+ * @see com.github.jeuxjeux20.guicybukkit.PluginDependencies#startTasks(Plugin)
+ */
+public final class TaskWheel {
+
+    /**
+     * The default number of slots of a {@link TaskWheel}.
+     */
+    public static final int DEFAULT_WHEEL_SIZE = 256;
+
+    private final List<Entry>[] slots;
+    private final int mask;
+    private final List<Entry> entries;
+    private final List<ScheduledTask> tasks;
+    private final List<TaskMetrics> metrics;
+    private final List<Entry> dueEntries = new ArrayList<>();
+
+    private long currentTick;
+    private @Nullable Plugin plugin;
+    private @Nullable BukkitTask bukkitTask;
+
+    /**
+     * Creates a new {@link TaskWheel} without any task, which never schedules a Bukkit task.
+     * <p>
+     * This constructor is used by injectors which were not configured with a
+     * {@link com.github.jeuxjeux20.guicybukkit.PluginModule}.
+     */
+    public TaskWheel() {
+        this(Collections.emptyList());
+    }
+
+    /**
+     * Creates a new {@link TaskWheel} with the specified {@code tasks} and the
+     * {@linkplain #DEFAULT_WHEEL_SIZE default wheel size}.
+     *
+     * @param tasks the tasks to run
+     */
+    public TaskWheel(Collection<? extends ScheduledTask> tasks) {
+        this(tasks, DEFAULT_WHEEL_SIZE);
+    }
+
+    /**
+     * Creates a new {@link TaskWheel} with the specified {@code tasks} and number of slots.
+     *
+     * @param tasks the tasks to run
+     * @param wheelSize the number of slots, which must be a power of two
+     * @throws IllegalArgumentException when {@code wheelSize} is not a power of two
+     */
+    @SuppressWarnings("unchecked")
+    public TaskWheel(Collection<? extends ScheduledTask> tasks, int wheelSize) {
+        if (wheelSize <= 0 || Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("The wheel size must be a power of two: " + wheelSize);
+        }
+        this.slots = new List[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            slots[i] = new ArrayList<>();
+        }
+        this.mask = wheelSize - 1;
+
+        List<Entry> entries = new ArrayList<>(tasks.size());
+        List<ScheduledTask> taskList = new ArrayList<>(tasks.size());
+        List<TaskMetrics> metrics = new ArrayList<>(tasks.size());
+        for (ScheduledTask task : tasks) {
+            Entry entry = new Entry(task);
+            entries.add(entry);
+            taskList.add(task);
+            metrics.add(entry.metrics);
+        }
+        this.entries = entries;
+        this.tasks = Collections.unmodifiableList(taskList);
+        this.metrics = Collections.unmodifiableList(metrics);
+    }
+
+    /**
+     * Gets the number of slots of this wheel.
+     *
+     * @return the number of slots
+     */
+    public int getWheelSize() {
+        return slots.length;
+    }
+
+    /**
+     * Gets the number of ticks this wheel went through since it started.
+     *
+     * @return the current tick
+     */
+    public long getCurrentTick() {
+        return currentTick;
+    }
+
+    /**
+     * Gets the tasks run by this wheel.
+     *
+     * @return the tasks, in the same order as their {@linkplain #getMetrics() metrics}
+     */
+    public List<ScheduledTask> getTasks() {
+        return tasks;
+    }
+
+    /**
+     * Gets the metrics of every task of this wheel.
+     *
+     * @return the metrics of every task, in the same order as the {@linkplain #getTasks() tasks}
+     */
+    public List<TaskMetrics> getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Returns whether this wheel is started.
+     * <p>
+     * A wheel is no longer started once its Bukkit task has been cancelled, which Bukkit does when
+     * the plugin is disabled, so it can be started again when the plugin is enabled again.
+     *
+     * @return true if this wheel is started, false otherwise
+     */
+    public boolean isStarted() {
+        return bukkitTask != null && !bukkitTask.isCancelled();
+    }
+
+    /**
+     * Starts running the tasks, using a single repeating task of the specified {@code plugin}.
+     * <p>
+     * If there are no tasks, no Bukkit task is scheduled.
+     *
+     * @param plugin the plugin to schedule the Bukkit task with
+     * @throws IllegalStateException when this wheel is already started
+     * @throws IllegalArgumentException when a task's period is not positive
+     */
+    public void start(Plugin plugin) {
+        if (isStarted()) {
+            throw new IllegalStateException("The task wheel is already started.");
+        }
+        // Read every period before scheduling anything, so an invalid task leaves the wheel untouched.
+        for (Entry entry : entries) {
+            entry.readSchedule();
+        }
+        // The Bukkit task may have been cancelled without stopping the wheel, so clear what it left behind.
+        stop();
+        this.plugin = plugin;
+        for (Entry entry : entries) {
+            entry.deadline = currentTick + findLeastOccupiedOffset(entry.period);
+            insert(entry);
+        }
+        if (!entries.isEmpty()) {
+            bukkitTask = plugin.getServer().getScheduler().runTaskTimer(plugin, this::tick, 1L, 1L);
+        }
+    }
+
+    /**
+     * Stops running the tasks. The wheel can be started again later.
+     */
+    public void stop() {
+        if (bukkitTask != null) {
+            bukkitTask.cancel();
+            bukkitTask = null;
+        }
+        for (List<Entry> slot : slots) {
+            slot.clear();
+        }
+    }
+
+    /**
+     * Advances the wheel by one tick, and runs the tasks due on it.
+     */
+    void tick() {
+        long tick = ++currentTick;
+        List<Entry> slot = slots[(int) (tick & mask)];
+
+        // Tasks due later than this tick stay in place; due tasks are taken out, then rescheduled
+        // before running, so a task failing cannot make the others drop out of the wheel.
+        int kept = 0;
+        for (int i = 0; i < slot.size(); i++) {
+            Entry entry = slot.get(i);
+            if (entry.deadline <= tick) {
+                dueEntries.add(entry);
+            } else {
+                slot.set(kept++, entry);
+            }
+        }
+        slot.subList(kept, slot.size()).clear();
+
+        for (Entry entry : dueEntries) {
+            entry.deadline = tick + entry.period;
+            insert(entry);
+        }
+        try {
+            for (Entry entry : dueEntries) {
+                if (!isStarted()) {
+                    // A task stopped the wheel.
+                    break;
+                }
+                run(entry);
+            }
+        } finally {
+            dueEntries.clear();
+        }
+    }
+
+    private void run(Entry entry) {
+        long start = System.nanoTime();
+        try {
+            entry.task.run();
+        } catch (Throwable e) {
+            // A stack overflow has been unwound and only concerns this task, unlike running out of memory.
+            if (e instanceof VirtualMachineError && !(e instanceof StackOverflowError)) {
+                throw (VirtualMachineError) e;
+            }
+            log(Level.SEVERE, "Task " + entry.task.getClass().getName() + " threw an exception.", e);
+        }
+        long nanos = System.nanoTime() - start;
+
+        boolean overrun = entry.budgetNanos > 0 && nanos > entry.budgetNanos;
+        entry.metrics.record(nanos, overrun);
+        if (overrun) {
+            // Only warn the first time, to avoid flooding the console with a task running every tick.
+            Level level = entry.metrics.getOverrunCount() == 1 ? Level.WARNING : Level.FINE;
+            log(level, "Task " + entry.task.getClass().getName() + " took " + nanos / 1000 + " us, exceeding its budget of "
+                       + entry.budgetNanos / 1000 + " us.", null);
+        }
+    }
+
+    /**
+     * Finds the offset, within the first period, of the least occupied slot, so tasks are spread over ticks.
+     */
+    private int findLeastOccupiedOffset(long period) {
+        int candidates = (int) Math.min(period, slots.length);
+        int bestOffset = 1;
+        int bestSize = Integer.MAX_VALUE;
+        for (int offset = 1; offset <= candidates; offset++) {
+            int size = slots[(int) ((currentTick + offset) & mask)].size();
+            if (size < bestSize) {
+                bestOffset = offset;
+                bestSize = size;
+            }
+        }
+        return bestOffset;
+    }
+
+    private void insert(Entry entry) {
+        slots[(int) (entry.deadline & mask)].add(entry);
+    }
+
+    private void log(Level level, String message, @Nullable Throwable thrown) {
+        if (plugin != null) {
+            plugin.getLogger().log(level, message, thrown);
+        }
+    }
+
+    private static final class Entry {
+        final ScheduledTask task;
+        final TaskMetrics metrics;
+        long period;
+        long budgetNanos;
+        long deadline;
+
+        Entry(ScheduledTask task) {
+            this.task = task;
+            this.metrics = new TaskMetrics(task);
+        }
+
+        void readSchedule() {
+            period = task.getPeriod();
+            budgetNanos = task.getTimeBudgetNanos();
+            if (period <= 0) {
+                throw new IllegalArgumentException("The period of task " + task.getClass().getName()
+                                                   + " must be positive: " + period);
+            }
+        }
+    }
+}
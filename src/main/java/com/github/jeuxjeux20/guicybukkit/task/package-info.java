@@ -0,0 +1,7 @@
+/**
+ * Provides repeating tasks bound with Guice, all driven by a single timing wheel.
+ */
+@ParametersAreNonnullByDefault
+package com.github.jeuxjeux20.guicybukkit.task;
+
+import javax.annotation.ParametersAreNonnullByDefault;
@@ -0,0 +1,53 @@
+package com.github.jeuxjeux20.guicybukkit.util;
+
+/**
+ * Hashing helpers shared by the primitive maps of this package.
+ */
+final class HashMix {
+    private static final int MINIMUM_CAPACITY = 4;
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+    private HashMix() {
+    }
+
+    /**
+     * Spreads the bits of the specified {@code key}, so keys with close values,
+     * such as packed coordinates or sequential ids, do not end up in the same probe sequence.
+     *
+     * @param key the key to mix
+     * @return the mixed hash
+     */
+    static int mix(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32));
+    }
+
+    /**
+     * Spreads the bits of the specified {@code key}.
+     *
+     * @param key the key to mix
+     * @return the mixed hash
+     * @see #mix(long)
+     */
+    static int mix(int key) {
+        int hash = key * 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * Gets the power of two table size able to hold {@code expectedSize} entries
+     * without exceeding the specified {@code loadFactor}.
+     *
+     * @param expectedSize the expected number of entries
+     * @param loadFactor the load factor
+     * @return the table size
+     */
+    static int tableSizeFor(int expectedSize, float loadFactor) {
+        long needed = (long) Math.ceil(expectedSize / (double) loadFactor) + 1;
+        if (needed >= MAXIMUM_CAPACITY) {
+            return MAXIMUM_CAPACITY;
+        }
+        int capacity = Integer.highestOneBit((int) Math.max(needed, MINIMUM_CAPACITY) - 1) << 1;
+        return Math.max(capacity, MINIMUM_CAPACITY);
+    }
+}
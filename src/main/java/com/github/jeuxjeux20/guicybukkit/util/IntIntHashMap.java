@@ -0,0 +1,256 @@
+package com.github.jeuxjeux20.guicybukkit.util;
+
+import java.util.Arrays;
+
+/**
+ * A map from primitive {@code int} keys to primitive {@code int} values, using open addressing with linear probing.
+ * <p>
+ * Unlike a {@code HashMap<Integer, Integer>}, this map neither boxes its keys and values nor allocates an entry
+ * object per mapping: keys and values are stored in two parallel arrays.
+ * Missing keys are mapped to the {@linkplain #getDefaultValue() default value}.
+ * <p>
+ * This class is not thread-safe.
+ */
+public final class IntIntHashMap {
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final float LOAD_FACTOR = 0.75f;
+    /**
+     * The key marking a free slot. Mappings for this key are stored apart from the table.
+     */
+    private static final int FREE_KEY = 0;
+
+    private final int defaultValue;
+
+    private int[] keys;
+    private int[] values;
+    private int mask;
+    private int size;
+    private int resizeThreshold;
+
+    private boolean hasFreeKey;
+    private int freeKeyValue;
+
+    /**
+     * Creates a new empty {@link IntIntHashMap} with a default capacity and a default value of {@code 0}.
+     */
+    public IntIntHashMap() {
+        this(DEFAULT_CAPACITY, 0);
+    }
+
+    /**
+     * Creates a new empty {@link IntIntHashMap} able to hold the specified number of mappings without resizing.
+     *
+     * @param expectedSize the expected number of mappings
+     * @param defaultValue the value returned for missing keys
+     * @throws IllegalArgumentException when {@code expectedSize} is negative
+     */
+    public IntIntHashMap(int expectedSize, int defaultValue) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("The expected size cannot be negative: " + expectedSize);
+        }
+        this.defaultValue = defaultValue;
+        allocate(HashMix.tableSizeFor(expectedSize, LOAD_FACTOR));
+    }
+
+    /**
+     * Gets the value returned for missing keys.
+     *
+     * @return the default value
+     */
+    public int getDefaultValue() {
+        return defaultValue;
+    }
+
+    /**
+     * Gets the value mapped to the specified {@code key}, or the {@linkplain #getDefaultValue() default value}
+     * if there is none.
+     *
+     * @param key the key
+     * @return the value mapped to the key, or the default value
+     */
+    public int get(int key) {
+        if (key == FREE_KEY) {
+            return hasFreeKey ? freeKeyValue : defaultValue;
+        }
+        int slot = HashMix.mix(key) & mask;
+        int current;
+        while ((current = keys[slot]) != FREE_KEY) {
+            if (current == key) {
+                return values[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return defaultValue;
+    }
+
+    /**
+     * Returns whether a value is mapped to the specified {@code key}.
+     *
+     * @param key the key
+     * @return true if there is a value mapped to the key, false otherwise
+     */
+    public boolean containsKey(int key) {
+        if (key == FREE_KEY) {
+            return hasFreeKey;
+        }
+        int slot = HashMix.mix(key) & mask;
+        int current;
+        while ((current = keys[slot]) != FREE_KEY) {
+            if (current == key) {
+                return true;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return false;
+    }
+
+    /**
+     * Maps the specified {@code value} to the specified {@code key}, replacing any previous value.
+     *
+     * @param key the key
+     * @param value the value
+     * @return the previous value mapped to the key, or the default value
+     */
+    public int put(int key, int value) {
+        if (key == FREE_KEY) {
+            int previous = hasFreeKey ? freeKeyValue : defaultValue;
+            if (!hasFreeKey) {
+                hasFreeKey = true;
+                size++;
+            }
+            freeKeyValue = value;
+            return previous;
+        }
+        int slot = HashMix.mix(key) & mask;
+        int current;
+        while ((current = keys[slot]) != FREE_KEY) {
+            if (current == key) {
+                int previous = values[slot];
+                values[slot] = value;
+                return previous;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        if (++size > resizeThreshold) {
+            rehash(keys.length << 1);
+        }
+        return defaultValue;
+    }
+
+    /**
+     * Adds the specified {@code delta} to the value mapped to the specified {@code key},
+     * starting from the {@linkplain #getDefaultValue() default value} if there is none.
+     *
+     * @param key the key
+     * @param delta the value to add
+     * @return the new value mapped to the key
+     */
+    public int addTo(int key, int delta) {
+        int value = get(key) + delta;
+        put(key, value);
+        return value;
+    }
+
+    /**
+     * Removes the value mapped to the specified {@code key}.
+     *
+     * @param key the key
+     * @return the removed value, or the default value if there was none
+     */
+    public int remove(int key) {
+        if (key == FREE_KEY) {
+            if (!hasFreeKey) {
+                return defaultValue;
+            }
+            hasFreeKey = false;
+            size--;
+            return freeKeyValue;
+        }
+        int slot = HashMix.mix(key) & mask;
+        int current;
+        while ((current = keys[slot]) != FREE_KEY) {
+            if (current == key) {
+                int previous = values[slot];
+                shiftBack(slot);
+                size--;
+                return previous;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return defaultValue;
+    }
+
+    /**
+     * Gets the number of mappings in this map.
+     *
+     * @return the number of mappings
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns whether this map contains no mappings.
+     *
+     * @return true if this map is empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes every mapping of this map.
+     */
+    public void clear() {
+        Arrays.fill(keys, FREE_KEY);
+        hasFreeKey = false;
+        size = 0;
+    }
+
+    /**
+     * Removes the entry at the specified {@code slot}, and moves back any following entry
+     * of the same probe sequence so lookups never stop on the freed slot.
+     */
+    private void shiftBack(int slot) {
+        int free = slot;
+        int current = (slot + 1) & mask;
+        int key;
+        while ((key = keys[current]) != FREE_KEY) {
+            int ideal = HashMix.mix(key) & mask;
+            // Move the entry if the free slot is between its ideal slot and its current slot.
+            if (((current - ideal) & mask) >= ((current - free) & mask)) {
+                keys[free] = key;
+                values[free] = values[current];
+                free = current;
+            }
+            current = (current + 1) & mask;
+        }
+        keys[free] = FREE_KEY;
+    }
+
+    private void rehash(int newCapacity) {
+        int[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(newCapacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            int key = oldKeys[i];
+            if (key != FREE_KEY) {
+                int slot = HashMix.mix(key) & mask;
+                while (keys[slot] != FREE_KEY) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = key;
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        values = new int[capacity];
+        mask = capacity - 1;
+        resizeThreshold = (int) (capacity * LOAD_FACTOR);
+    }
+}
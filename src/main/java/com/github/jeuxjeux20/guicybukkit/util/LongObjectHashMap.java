@@ -0,0 +1,248 @@
+package com.github.jeuxjeux20.guicybukkit.util;
+
+import javax.annotation.Nullable;
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * A map from primitive {@code long} keys to non-null values, using open addressing with linear probing.
+ * <p>
+ * Unlike a {@code HashMap<Long, V>}, this map neither boxes its keys nor allocates an entry object
+ * per mapping: keys and values are stored in two parallel arrays.
+ * <p>
+ * This class is not thread-safe.
+ *
+ * @param <V> the type of the values
+ */
+public final class LongObjectHashMap<V> {
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final float LOAD_FACTOR = 0.75f;
+
+    private long[] keys;
+    private Object[] values;
+    private int mask;
+    private int size;
+    private int resizeThreshold;
+
+    /**
+     * Creates a new empty {@link LongObjectHashMap} with a default capacity.
+     */
+    public LongObjectHashMap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a new empty {@link LongObjectHashMap} able to hold the specified number
+     * of mappings without resizing.
+     *
+     * @param expectedSize the expected number of mappings
+     * @throws IllegalArgumentException when {@code expectedSize} is negative
+     */
+    public LongObjectHashMap(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("The expected size cannot be negative: " + expectedSize);
+        }
+        allocate(HashMix.tableSizeFor(expectedSize, LOAD_FACTOR));
+    }
+
+    /**
+     * Gets the value mapped to the specified {@code key}, or {@code null} if there is none.
+     *
+     * @param key the key
+     * @return the value mapped to the key, or null
+     */
+    @SuppressWarnings("unchecked")
+    @Nullable
+    public V get(long key) {
+        int slot = HashMix.mix(key) & mask;
+        Object value;
+        while ((value = values[slot]) != null) {
+            if (keys[slot] == key) {
+                return (V) value;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return null;
+    }
+
+    /**
+     * Returns whether a value is mapped to the specified {@code key}.
+     *
+     * @param key the key
+     * @return true if there is a value mapped to the key, false otherwise
+     */
+    public boolean containsKey(long key) {
+        return get(key) != null;
+    }
+
+    /**
+     * Maps the specified {@code value} to the specified {@code key}, replacing any previous value.
+     *
+     * @param key the key
+     * @param value the value, which cannot be null
+     * @return the previous value mapped to the key, or null
+     */
+    @SuppressWarnings("unchecked")
+    @Nullable
+    public V put(long key, V value) {
+        if (value == null) {
+            throw new NullPointerException("value");
+        }
+        int slot = HashMix.mix(key) & mask;
+        Object current;
+        while ((current = values[slot]) != null) {
+            if (keys[slot] == key) {
+                values[slot] = value;
+                return (V) current;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        if (++size > resizeThreshold) {
+            rehash(keys.length << 1);
+        }
+        return null;
+    }
+
+    /**
+     * Removes the value mapped to the specified {@code key}.
+     *
+     * @param key the key
+     * @return the removed value, or null if there was none
+     */
+    @SuppressWarnings("unchecked")
+    @Nullable
+    public V remove(long key) {
+        int slot = HashMix.mix(key) & mask;
+        Object current;
+        while ((current = values[slot]) != null) {
+            if (keys[slot] == key) {
+                shiftBack(slot);
+                size--;
+                return (V) current;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return null;
+    }
+
+    /**
+     * Gets the number of mappings in this map.
+     *
+     * @return the number of mappings
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns whether this map contains no mappings.
+     *
+     * @return true if this map is empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes every mapping of this map.
+     */
+    public void clear() {
+        Arrays.fill(values, null);
+        size = 0;
+    }
+
+    /**
+     * Runs the specified {@code action} on each value of this map.
+     * <p>
+     * The map must not be modified by the {@code action}.
+     *
+     * @param action the action to run on each value
+     */
+    @SuppressWarnings("unchecked")
+    public void forEachValue(Consumer<? super V> action) {
+        for (Object value : values) {
+            if (value != null) {
+                action.accept((V) value);
+            }
+        }
+    }
+
+    /**
+     * Runs the specified {@code action} on each mapping of this map.
+     * <p>
+     * The map must not be modified by the {@code action}.
+     *
+     * @param action the action to run on each mapping
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(EntryConsumer<? super V> action) {
+        for (int i = 0; i < values.length; i++) {
+            Object value = values[i];
+            if (value != null) {
+                action.accept(keys[i], (V) value);
+            }
+        }
+    }
+
+    /**
+     * Removes the entry at the specified {@code slot}, and moves back any following entry
+     * of the same probe sequence so lookups never stop on the freed slot.
+     */
+    private void shiftBack(int slot) {
+        int free = slot;
+        int current = (slot + 1) & mask;
+        while (values[current] != null) {
+            int ideal = HashMix.mix(keys[current]) & mask;
+            // Move the entry if the free slot is between its ideal slot and its current slot.
+            if (((current - ideal) & mask) >= ((current - free) & mask)) {
+                keys[free] = keys[current];
+                values[free] = values[current];
+                free = current;
+            }
+            current = (current + 1) & mask;
+        }
+        values[free] = null;
+    }
+
+    private void rehash(int newCapacity) {
+        long[] oldKeys = keys;
+        Object[] oldValues = values;
+        allocate(newCapacity);
+        for (int i = 0; i < oldValues.length; i++) {
+            Object value = oldValues[i];
+            if (value != null) {
+                int slot = HashMix.mix(oldKeys[i]) & mask;
+                while (values[slot] != null) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                values[slot] = value;
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+        resizeThreshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    /**
+     * An action accepting a {@code long} key and its value.
+     *
+     * @param <V> the type of the values
+     */
+    @FunctionalInterface
+    public interface EntryConsumer<V> {
+        /**
+         * Performs this action on the specified {@code key} and {@code value}.
+         *
+         * @param key the key
+         * @param value the value
+         */
+        void accept(long key, V value);
+    }
+}
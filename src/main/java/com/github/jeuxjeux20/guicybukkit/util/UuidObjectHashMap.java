@@ -0,0 +1,225 @@
+package com.github.jeuxjeux20.guicybukkit.util;
+
+import javax.annotation.Nullable;
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * A map from {@link UUID} keys to non-null values, using open addressing with linear probing.
+ * <p>
+ * Unlike a {@code HashMap<UUID, V>}, this map neither keeps the {@link UUID} objects nor allocates an entry
+ * object per mapping: the two halves of each key and the values are stored in three parallel arrays.
+ * <p>
+ * This class is not thread-safe.
+ *
+ * @param <V> the type of the values
+ */
+public final class UuidObjectHashMap<V> {
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final float LOAD_FACTOR = 0.75f;
+
+    private long[] mostSignificantBits;
+    private long[] leastSignificantBits;
+    private Object[] values;
+    private int mask;
+    private int size;
+    private int resizeThreshold;
+
+    /**
+     * Creates a new empty {@link UuidObjectHashMap} with a default capacity.
+     */
+    public UuidObjectHashMap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a new empty {@link UuidObjectHashMap} able to hold the specified number
+     * of mappings without resizing.
+     *
+     * @param expectedSize the expected number of mappings
+     * @throws IllegalArgumentException when {@code expectedSize} is negative
+     */
+    public UuidObjectHashMap(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("The expected size cannot be negative: " + expectedSize);
+        }
+        allocate(HashMix.tableSizeFor(expectedSize, LOAD_FACTOR));
+    }
+
+    /**
+     * Gets the value mapped to the specified {@code key}, or {@code null} if there is none.
+     *
+     * @param key the key
+     * @return the value mapped to the key, or null
+     */
+    @Nullable
+    public V get(UUID key) {
+        return get(key.getMostSignificantBits(), key.getLeastSignificantBits());
+    }
+
+    /**
+     * Gets the value mapped to the key with the specified halves, or {@code null} if there is none.
+     *
+     * @param most the most significant bits of the key
+     * @param least the least significant bits of the key
+     * @return the value mapped to the key, or null
+     */
+    @SuppressWarnings("unchecked")
+    @Nullable
+    public V get(long most, long least) {
+        int slot = hash(most, least) & mask;
+        Object value;
+        while ((value = values[slot]) != null) {
+            if (mostSignificantBits[slot] == most && leastSignificantBits[slot] == least) {
+                return (V) value;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return null;
+    }
+
+    /**
+     * Returns whether a value is mapped to the specified {@code key}.
+     *
+     * @param key the key
+     * @return true if there is a value mapped to the key, false otherwise
+     */
+    public boolean containsKey(UUID key) {
+        return get(key) != null;
+    }
+
+    /**
+     * Maps the specified {@code value} to the specified {@code key}, replacing any previous value.
+     *
+     * @param key the key
+     * @param value the value, which cannot be null
+     * @return the previous value mapped to the key, or null
+     */
+    @SuppressWarnings("unchecked")
+    @Nullable
+    public V put(UUID key, V value) {
+        if (value == null) {
+            throw new NullPointerException("value");
+        }
+        long most = key.getMostSignificantBits();
+        long least = key.getLeastSignificantBits();
+        int slot = hash(most, least) & mask;
+        Object current;
+        while ((current = values[slot]) != null) {
+            if (mostSignificantBits[slot] == most && leastSignificantBits[slot] == least) {
+                values[slot] = value;
+                return (V) current;
+            }
+            slot = (slot + 1) & mask;
+        }
+        mostSignificantBits[slot] = most;
+        leastSignificantBits[slot] = least;
+        values[slot] = value;
+        if (++size > resizeThreshold) {
+            rehash(values.length << 1);
+        }
+        return null;
+    }
+
+    /**
+     * Removes the value mapped to the specified {@code key}.
+     *
+     * @param key the key
+     * @return the removed value, or null if there was none
+     */
+    @SuppressWarnings("unchecked")
+    @Nullable
+    public V remove(UUID key) {
+        long most = key.getMostSignificantBits();
+        long least = key.getLeastSignificantBits();
+        int slot = hash(most, least) & mask;
+        Object current;
+        while ((current = values[slot]) != null) {
+            if (mostSignificantBits[slot] == most && leastSignificantBits[slot] == least) {
+                shiftBack(slot);
+                size--;
+                return (V) current;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return null;
+    }
+
+    /**
+     * Gets the number of mappings in this map.
+     *
+     * @return the number of mappings
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns whether this map contains no mappings.
+     *
+     * @return true if this map is empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes every mapping of this map.
+     */
+    public void clear() {
+        Arrays.fill(values, null);
+        size = 0;
+    }
+
+    private static int hash(long most, long least) {
+        return HashMix.mix(most ^ least);
+    }
+
+    /**
+     * Removes the entry at the specified {@code slot}, and moves back any following entry
+     * of the same probe sequence so lookups never stop on the freed slot.
+     */
+    private void shiftBack(int slot) {
+        int free = slot;
+        int current = (slot + 1) & mask;
+        while (values[current] != null) {
+            int ideal = hash(mostSignificantBits[current], leastSignificantBits[current]) & mask;
+            // Move the entry if the free slot is between its ideal slot and its current slot.
+            if (((current - ideal) & mask) >= ((current - free) & mask)) {
+                mostSignificantBits[free] = mostSignificantBits[current];
+                leastSignificantBits[free] = leastSignificantBits[current];
+                values[free] = values[current];
+                free = current;
+            }
+            current = (current + 1) & mask;
+        }
+        values[free] = null;
+    }
+
+    private void rehash(int newCapacity) {
+        long[] oldMost = mostSignificantBits;
+        long[] oldLeast = leastSignificantBits;
+        Object[] oldValues = values;
+        allocate(newCapacity);
+        for (int i = 0; i < oldValues.length; i++) {
+            Object value = oldValues[i];
+            if (value != null) {
+                int slot = hash(oldMost[i], oldLeast[i]) & mask;
+                while (values[slot] != null) {
+                    slot = (slot + 1) & mask;
+                }
+                mostSignificantBits[slot] = oldMost[i];
+                leastSignificantBits[slot] = oldLeast[i];
+                values[slot] = value;
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        mostSignificantBits = new long[capacity];
+        leastSignificantBits = new long[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+        resizeThreshold = (int) (capacity * LOAD_FACTOR);
+    }
+}
@@ -0,0 +1,7 @@
+/**
+ * Provides small, allocation-friendly collections used by the library's components.
+ */
+@ParametersAreNonnullByDefault
+package com.github.jeuxjeux20.guicybukkit.util;
+
+import javax.annotation.ParametersAreNonnullByDefault;
@@ -7,18 +7,23 @@ import org.bukkit.command.PluginCommandUtils;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
 import org.bukkit.event.entity.PlayerDeathEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
 import org.bukkit.plugin.RegisteredListener;
 import org.junit.jupiter.api.Test;
 
 import javax.annotation.Nullable;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
@@ -96,4 +101,38 @@ public class PluginDependenciesTests extends PluginTestBase {
                 .collect(Collectors.toList());
         assertThat(registeredListeners, contains(listener));
     }
+
+    @Test
+    void registerListenersBatchedAddsListeners() {
+        Listener first = new Listener() {
+            @EventHandler
+            public void onQuit(PlayerQuitEvent event) {
+            }
+
+            @EventHandler
+            public void onJoin(PlayerJoinEvent event) {
+            }
+        };
+        Listener second = new Listener() {
+            @EventHandler
+            public void onQuit(PlayerQuitEvent event) {
+            }
+        };
+        Set<Listener> listeners = new LinkedHashSet<>(Arrays.asList(first, second));
+        PluginDependencies pluginDependencies = new PluginDependencies(listeners, Collections.emptySet());
+
+        ListenerRegistrationReport report = pluginDependencies.registerListenersBatched(plugin);
+
+        List<Listener> quitListeners = Arrays.stream(PlayerQuitEvent.getHandlerList().getRegisteredListeners())
+                .map(RegisteredListener::getListener)
+                .collect(Collectors.toList());
+        List<Listener> joinListeners = Arrays.stream(PlayerJoinEvent.getHandlerList().getRegisteredListeners())
+                .map(RegisteredListener::getListener)
+                .collect(Collectors.toList());
+        assertThat(quitListeners, containsInAnyOrder(first, second));
+        assertThat(joinListeners, contains(first));
+        assertEquals(2, report.getListenerCount());
+        assertEquals(3, report.getHandlerCount());
+        assertEquals(2, report.getHandlerListCount());
+    }
 }
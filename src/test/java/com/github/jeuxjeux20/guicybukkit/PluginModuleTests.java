@@ -1,7 +1,13 @@
 package com.github.jeuxjeux20.guicybukkit;
 
+import be.seeseemelk.mockbukkit.MockBukkit;
 import be.seeseemelk.mockbukkit.MockPlugin;
 import com.github.jeuxjeux20.guicybukkit.command.CommandConfigurator;
+import com.github.jeuxjeux20.guicybukkit.condition.Conditions;
+import com.github.jeuxjeux20.guicybukkit.condition.RequiresPlugin;
+import com.github.jeuxjeux20.guicybukkit.task.Repeating;
+import com.github.jeuxjeux20.guicybukkit.task.ScheduledTask;
+import com.github.jeuxjeux20.guicybukkit.task.TaskWheel;
 import com.google.inject.Guice;
 import com.google.inject.Injector;
 import com.google.inject.multibindings.Multibinder;
@@ -10,11 +16,16 @@ import org.hamcrest.MatcherAssert;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class PluginModuleTests extends PluginTestBase {
 
@@ -63,4 +74,126 @@ public class PluginModuleTests extends PluginTestBase {
         MatcherAssert.assertThat(commandConfiguratorClasses, containsInAnyOrder(commandConfigurator.getClass()));
     }
 
+    @Repeating(20)
+    public static class TestTask implements ScheduledTask {
+        @Override
+        public void run() {
+        }
+    }
+
+    @Test
+    void bindsTasks() {
+        Injector injector = Guice.createInjector(new PluginModule(plugin) {
+            @Override
+            protected void configureTasks(Multibinder<ScheduledTask> binder) {
+                binder.addBinding().to(TestTask.class);
+            }
+        });
+
+        List<ScheduledTask> tasks = injector.getInstance(PluginDependencies.class).getTasks();
+
+        Set<Class<? extends ScheduledTask>> taskClasses
+                = tasks.stream().map(ScheduledTask::getClass).collect(Collectors.toSet());
+        MatcherAssert.assertThat(taskClasses, containsInAnyOrder(TestTask.class));
+    }
+
+    @Test
+    void sharesTaskWheel() {
+        Injector injector = Guice.createInjector(new PluginModule(plugin) {
+            @Override
+            protected void configureTasks(Multibinder<ScheduledTask> binder) {
+                binder.addBinding().to(TestTask.class);
+            }
+        });
+
+        PluginDependencies first = PluginDependencies.fromInjector(injector);
+        PluginDependencies second = PluginDependencies.fromInjector(injector);
+        TaskWheel taskWheel = first.getTaskWheel();
+
+        assertSame(taskWheel, second.getTaskWheel());
+
+        first.startTasks(plugin);
+        MockBukkit.getMock().getScheduler().performTicks(40);
+
+        assertEquals(2, second.getTaskWheel().getMetrics().get(0).getRunCount());
+        assertThrows(IllegalStateException.class, () -> second.startTasks(plugin));
+        taskWheel.stop();
+    }
+
+    @Repeating(1)
+    public static class RecordingTask implements ScheduledTask {
+        static final List<ScheduledTask> RUNS = new ArrayList<>();
+
+        @Override
+        public void run() {
+            RUNS.add(this);
+        }
+    }
+
+    @Test
+    void getsTasksRunByTheTaskWheel() {
+        RecordingTask.RUNS.clear();
+        Injector injector = Guice.createInjector(new PluginModule(plugin) {
+            @Override
+            protected void configureTasks(Multibinder<ScheduledTask> binder) {
+                binder.addBinding().to(RecordingTask.class);
+            }
+        });
+
+        PluginDependencies first = PluginDependencies.fromInjector(injector);
+        PluginDependencies second = PluginDependencies.fromInjector(injector);
+        first.startTasks(plugin);
+        MockBukkit.getMock().getScheduler().performTicks(1);
+
+        assertEquals(1, RecordingTask.RUNS.size());
+        ScheduledTask task = RecordingTask.RUNS.get(0);
+        assertSame(task, first.getTasks().get(0));
+        assertSame(task, second.getTasks().get(0));
+        assertSame(task, first.getTaskWheel().getMetrics().get(0).getTask());
+        first.getTaskWheel().stop();
+    }
+
+    public static class EnabledListener implements Listener {
+    }
+
+    public static class OtherEnabledListener implements Listener {
+    }
+
+    @Test
+    void addsEnabledBindings() {
+        Injector injector = Guice.createInjector(new PluginModule(plugin) {
+            @Override
+            protected void configureListeners(Multibinder<Listener> binder) {
+                addBindingIfEnabled(binder, EnabledListener.class);
+                addBindingIf(Conditions.always(), binder, OtherEnabledListener.class);
+            }
+        });
+
+        Set<Listener> listeners = injector.getInstance(PluginDependencies.class).getListeners();
+
+        Set<Class<? extends Listener>> listenerClasses
+                = listeners.stream().map(Listener::getClass).collect(Collectors.toSet());
+        MatcherAssert.assertThat(listenerClasses, containsInAnyOrder(EnabledListener.class, OtherEnabledListener.class));
+    }
+
+    @RequiresPlugin("SomePluginThatIsNotThere")
+    public static class MissingDependencyListener implements Listener {
+        public MissingDependencyListener() {
+            throw new AssertionError("A disabled listener should not be instantiated.");
+        }
+    }
+
+    @Test
+    void skipsDisabledBindings() {
+        Injector injector = Guice.createInjector(new PluginModule(plugin) {
+            @Override
+            protected void configureListeners(Multibinder<Listener> binder) {
+                addBindingIfEnabled(binder, MissingDependencyListener.class);
+            }
+        });
+
+        Set<Listener> listeners = injector.getInstance(PluginDependencies.class).getListeners();
+
+        MatcherAssert.assertThat(listeners, empty());
+    }
 }
@@ -0,0 +1,86 @@
+package com.github.jeuxjeux20.guicybukkit.condition;
+
+import org.bukkit.Server;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.plugin.PluginManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ConditionsTests {
+
+    private Plugin plugin;
+    private YamlConfiguration config;
+
+    @BeforeEach
+    void setUp() {
+        plugin = mock(Plugin.class);
+        Server server = mock(Server.class);
+        PluginManager pluginManager = mock(PluginManager.class);
+        Plugin vault = mock(Plugin.class);
+        config = new YamlConfiguration();
+
+        when(plugin.getServer()).thenReturn(server);
+        when(plugin.getConfig()).thenReturn(config);
+        when(server.getPluginManager()).thenReturn(pluginManager);
+        when(server.getBukkitVersion()).thenReturn("1.17.1-R0.1-SNAPSHOT");
+        when(pluginManager.getPlugin("Vault")).thenReturn(vault);
+    }
+
+    @RequiresPlugin("Vault")
+    static class VaultComponent {
+    }
+
+    @RequiresPlugin({"Vault", "WorldGuard"})
+    static class VaultAndWorldGuardComponent {
+    }
+
+    @RequiresConfig("features.rewards")
+    static class RewardsComponent {
+    }
+
+    @RequiresServerVersion(atLeast = "1.17", below = "1.18")
+    static class ModernComponent {
+    }
+
+    @RequiresServerVersion(below = "1.17")
+    static class LegacyComponent {
+    }
+
+    @Test
+    void alwaysMatchesWithoutAnnotations() {
+        assertTrue(Conditions.fromAnnotations(Object.class).matches(plugin));
+    }
+
+    @Test
+    void requiresPluginChecksEveryPlugin() {
+        assertTrue(Conditions.fromAnnotations(VaultComponent.class).matches(plugin));
+        assertFalse(Conditions.fromAnnotations(VaultAndWorldGuardComponent.class).matches(plugin));
+    }
+
+    @Test
+    void requiresConfigReadsFlag() {
+        Condition condition = Conditions.fromAnnotations(RewardsComponent.class);
+        assertFalse(condition.matches(plugin));
+
+        config.set("features.rewards", true);
+        assertTrue(condition.matches(plugin));
+    }
+
+    @Test
+    void requiresServerVersionChecksRange() {
+        assertTrue(Conditions.fromAnnotations(ModernComponent.class).matches(plugin));
+        assertFalse(Conditions.fromAnnotations(LegacyComponent.class).matches(plugin));
+    }
+
+    @Test
+    void compareVersionsIgnoresSuffixAndMissingComponents() {
+        assertEquals(0, Conditions.compareVersions("1.17-R0.1-SNAPSHOT", "1.17.0"));
+        assertTrue(Conditions.compareVersions("1.17.1", "1.17") > 0);
+        assertTrue(Conditions.compareVersions("1.9", "1.16.5") < 0);
+    }
+}
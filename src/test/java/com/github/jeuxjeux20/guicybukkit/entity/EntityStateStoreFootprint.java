@@ -0,0 +1,107 @@
+package com.github.jeuxjeux20.guicybukkit.entity;
+
+import com.github.jeuxjeux20.guicybukkit.util.IntIntHashMap;
+import com.github.jeuxjeux20.guicybukkit.util.LongObjectHashMap;
+import com.github.jeuxjeux20.guicybukkit.util.UuidObjectHashMap;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.IntFunction;
+
+/**
+ * Compares the heap footprint of the maps backing {@link EntityStateStore} slots with their {@link HashMap}
+ * equivalents, for a number of entities.
+ * <p>
+ * This is not a test: run its {@link #main(String[])} method manually, preferably with {@code -Xint} or a fixed
+ * heap size to reduce noise. The entity count can be passed as the first argument.
+ */
+public class EntityStateStoreFootprint {
+    private static final int ROUNDS = 5;
+
+    public static void main(String[] args) {
+        int entities = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+        UUID[] uuids = new UUID[entities];
+        for (int i = 0; i < entities; i++) {
+            uuids[i] = UUID.randomUUID();
+        }
+        Object state = new Object();
+
+        System.out.printf("Retained heap for %d entities:%n", entities);
+
+        report("Map<Integer, Integer>", measure(n -> {
+            Map<Integer, Integer> map = new HashMap<>();
+            for (int i = 0; i < n; i++) {
+                map.put(i + 1000, i + 1000);
+            }
+            return map;
+        }, entities), "IntIntHashMap", measure(n -> {
+            IntIntHashMap map = new IntIntHashMap();
+            for (int i = 0; i < n; i++) {
+                map.put(i + 1000, i + 1000);
+            }
+            return map;
+        }, entities));
+
+        report("Map<Integer, Object>", measure(n -> {
+            Map<Integer, Object> map = new HashMap<>();
+            for (int i = 0; i < n; i++) {
+                map.put(i + 1000, state);
+            }
+            return map;
+        }, entities), "LongObjectHashMap", measure(n -> {
+            LongObjectHashMap<Object> map = new LongObjectHashMap<>();
+            for (int i = 0; i < n; i++) {
+                map.put(i + 1000, state);
+            }
+            return map;
+        }, entities));
+
+        // The UUIDs are kept alive by the entities themselves, so they are excluded from both measurements.
+        report("Map<UUID, Object>", measure(n -> {
+            Map<UUID, Object> map = new HashMap<>();
+            for (int i = 0; i < n; i++) {
+                map.put(uuids[i], state);
+            }
+            return map;
+        }, entities), "UuidObjectHashMap", measure(n -> {
+            UuidObjectHashMap<Object> map = new UuidObjectHashMap<>();
+            for (int i = 0; i < n; i++) {
+                map.put(uuids[i], state);
+            }
+            return map;
+        }, entities));
+    }
+
+    private static void report(String baselineName, long baseline, String name, long footprint) {
+        System.out.printf("  %-22s %,12d bytes%n", baselineName, baseline);
+        System.out.printf("  %-22s %,12d bytes (%.1f%%)%n", name, footprint, 100.0 * footprint / baseline);
+    }
+
+    /**
+     * Measures the median heap growth retained by the objects created by {@code factory}.
+     */
+    private static long measure(IntFunction<Object> factory, int entities) {
+        long[] samples = new long[ROUNDS];
+        for (int round = 0; round < ROUNDS; round++) {
+            long before = usedHeap();
+            Object retained = factory.apply(entities);
+            samples[round] = usedHeap() - before;
+            // Keep the object reachable until it has been measured.
+            if (retained.hashCode() == 42) {
+                System.out.print("");
+            }
+        }
+        Arrays.sort(samples);
+        return samples[ROUNDS / 2];
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,131 @@
+package com.github.jeuxjeux20.guicybukkit.entity;
+
+import com.destroystokyo.paper.event.entity.EntityRemoveFromWorldEvent;
+import com.github.jeuxjeux20.guicybukkit.PluginDependencies;
+import com.github.jeuxjeux20.guicybukkit.PluginModule;
+import com.github.jeuxjeux20.guicybukkit.PluginTestBase;
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import org.bukkit.Chunk;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Player;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.world.EntitiesUnloadEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.UUID;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasItem;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class EntityStateStoreTests extends PluginTestBase {
+
+    private Injector injector;
+    private EntityStateStore store;
+
+    @BeforeEach
+    void setUpStore() {
+        injector = Guice.createInjector(new PluginModule(plugin) {
+            @Override
+            protected void configureBindings() {
+                installEntityStateStore();
+            }
+        });
+        store = injector.getInstance(EntityStateStore.class);
+    }
+
+    private static Entity mockEntity(int entityId) {
+        Entity entity = mock(Entity.class);
+        when(entity.getEntityId()).thenReturn(entityId);
+        when(entity.getUniqueId()).thenReturn(UUID.randomUUID());
+        return entity;
+    }
+
+    @Test
+    void slotsHoldStatePerEntity() {
+        ObjectEntitySlot<String> names = store.newSlot();
+        IntEntitySlot kills = store.newIntSlot(0);
+        UuidEntitySlot<String> tags = store.newUuidSlot();
+        Entity first = mockEntity(1);
+        Entity second = mockEntity(2);
+
+        names.set(first, "first");
+        kills.add(first, 2);
+        kills.add(first, 3);
+        tags.set(second, "tagged");
+
+        assertEquals("first", names.get(first));
+        assertNull(names.get(second));
+        assertEquals(5, kills.get(first));
+        assertEquals(0, kills.get(second));
+        assertEquals("tagged", tags.get(second.getUniqueId()));
+    }
+
+    @Test
+    void removesStateOnEntityRemoval() {
+        IntEntitySlot kills = store.newIntSlot(-1);
+        Entity entity = mockEntity(7);
+        kills.set(entity, 10);
+
+        store.onEntityRemove(new EntityRemoveFromWorldEvent(entity));
+
+        assertEquals(-1, kills.get(entity));
+        assertFalse(kills.contains(entity));
+    }
+
+    @Test
+    void removesUuidStateOnEntityRemoval() {
+        UuidEntitySlot<String> tags = store.newUuidSlot();
+        Entity entity = mockEntity(7);
+        tags.set(entity, "tagged");
+
+        store.onEntityRemove(new EntityRemoveFromWorldEvent(entity));
+
+        assertNull(tags.get(entity.getUniqueId()));
+    }
+
+    @Test
+    void keepsUuidStateOfPlayersUntilTheyQuit() {
+        UuidEntitySlot<String> tags = store.newUuidSlot();
+        ObjectEntitySlot<String> names = store.newSlot();
+        Player player = mock(Player.class);
+        when(player.getEntityId()).thenReturn(7);
+        when(player.getUniqueId()).thenReturn(UUID.randomUUID());
+        tags.set(player, "tagged");
+        names.set(player, "name");
+
+        // A player changing dimension is removed from its world.
+        store.onEntityRemove(new EntityRemoveFromWorldEvent(player));
+
+        assertEquals("tagged", tags.get(player));
+        assertNull(names.get(player));
+
+        store.onPlayerQuit(new PlayerQuitEvent(player, "Bye"));
+
+        assertNull(tags.get(player));
+    }
+
+    @Test
+    void removesStateOnEntitiesUnload() {
+        ObjectEntitySlot<String> names = store.newSlot();
+        Entity inChunk = mockEntity(1);
+        Entity elsewhere = mockEntity(2);
+        names.set(inChunk, "in chunk");
+        names.set(elsewhere, "elsewhere");
+
+        store.onEntitiesUnload(new EntitiesUnloadEvent(mock(Chunk.class), Collections.singletonList(inChunk)));
+
+        assertNull(names.get(inChunk));
+        assertEquals("elsewhere", names.get(elsewhere));
+    }
+
+    @Test
+    void isBoundAsListener() {
+        assertThat(PluginDependencies.fromInjector(injector).getListeners(), hasItem(store));
+    }
+}
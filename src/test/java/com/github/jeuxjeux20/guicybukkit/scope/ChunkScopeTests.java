@@ -0,0 +1,120 @@
+package com.github.jeuxjeux20.guicybukkit.scope;
+
+import com.github.jeuxjeux20.guicybukkit.PluginModule;
+import com.github.jeuxjeux20.guicybukkit.PluginTestBase;
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import org.bukkit.Chunk;
+import org.bukkit.World;
+import org.bukkit.event.world.ChunkUnloadEvent;
+import org.bukkit.event.world.WorldUnloadEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ChunkScopeTests extends PluginTestBase {
+
+    @ChunkScoped
+    static class RegionLookup {
+    }
+
+    private Injector injector;
+    private ChunkScope scope;
+    private World world;
+
+    @BeforeEach
+    void setUpScope() {
+        injector = Guice.createInjector(new PluginModule(plugin) {
+            @Override
+            protected void configureBindings() {
+                installChunkScope(16);
+            }
+        });
+        scope = injector.getInstance(ChunkScope.class);
+        world = mock(World.class);
+        when(world.getUID()).thenReturn(UUID.randomUUID());
+    }
+
+    private Chunk mockChunk(int x, int z) {
+        Chunk chunk = mock(Chunk.class);
+        when(chunk.getWorld()).thenReturn(world);
+        when(chunk.getX()).thenReturn(x);
+        when(chunk.getZ()).thenReturn(z);
+        return chunk;
+    }
+
+    private RegionLookup getIn(Chunk chunk) {
+        scope.enter(chunk);
+        try {
+            return injector.getInstance(RegionLookup.class);
+        } finally {
+            scope.exit();
+        }
+    }
+
+    @Test
+    void keepsOneInstancePerChunk() {
+        RegionLookup lookup = getIn(mockChunk(1, -1));
+
+        assertSame(lookup, getIn(mockChunk(1, -1)));
+        assertNotSame(lookup, getIn(mockChunk(-1, 1)));
+    }
+
+    @Test
+    void evictsOnChunkUnload() {
+        Chunk chunk = mockChunk(3, 4);
+        Chunk otherChunk = mockChunk(4, 3);
+        RegionLookup lookup = getIn(chunk);
+        RegionLookup otherLookup = getIn(otherChunk);
+
+        scope.onChunkUnload(new ChunkUnloadEvent(chunk));
+
+        assertEquals(1, scope.size());
+        assertNotSame(lookup, getIn(chunk));
+        assertSame(otherLookup, getIn(otherChunk));
+    }
+
+    @Test
+    void evictsEveryChunkOnWorldUnload() {
+        getIn(mockChunk(0, 0));
+        getIn(mockChunk(0, 1));
+
+        scope.onWorldUnload(new WorldUnloadEvent(world));
+
+        assertEquals(0, scope.size());
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedChunksBeyondMaximumSize() {
+        injector = Guice.createInjector(new PluginModule(plugin) {
+            @Override
+            protected void configureBindings() {
+                installChunkScope(2);
+            }
+        });
+        scope = injector.getInstance(ChunkScope.class);
+        Chunk spawn = mockChunk(0, 0);
+        Chunk stale = mockChunk(10, 10);
+        RegionLookup spawnLookup = getIn(spawn);
+        RegionLookup staleLookup = getIn(stale);
+
+        // Using the spawn chunk again makes the other chunk the least recently used one.
+        assertSame(spawnLookup, getIn(spawn));
+        getIn(mockChunk(20, 20));
+
+        assertEquals(2, scope.size());
+        assertSame(spawnLookup, getIn(spawn));
+        assertNotSame(staleLookup, getIn(stale));
+    }
+
+    @Test
+    void chunkKeyPacksNegativeCoordinates() {
+        assertNotEquals(ChunkScope.chunkKey(-1, 0), ChunkScope.chunkKey(0, -1));
+        assertEquals(0xFFFFFFFFL, ChunkScope.chunkKey(-1, 0));
+    }
+}
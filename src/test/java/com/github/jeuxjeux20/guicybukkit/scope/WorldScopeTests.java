@@ -0,0 +1,106 @@
+package com.github.jeuxjeux20.guicybukkit.scope;
+
+import com.github.jeuxjeux20.guicybukkit.PluginDependencies;
+import com.github.jeuxjeux20.guicybukkit.PluginModule;
+import com.github.jeuxjeux20.guicybukkit.PluginTestBase;
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import com.google.inject.OutOfScopeException;
+import org.bukkit.World;
+import org.bukkit.event.world.WorldUnloadEvent;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasItem;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class WorldScopeTests extends PluginTestBase {
+
+    @WorldScoped
+    static class SpawnCache {
+    }
+
+    private static World mockWorld() {
+        World world = mock(World.class);
+        when(world.getUID()).thenReturn(UUID.randomUUID());
+        return world;
+    }
+
+    private static <T> T getIn(WorldScope scope, World world, Injector injector, Class<T> type) {
+        scope.enter(world);
+        try {
+            return injector.getInstance(type);
+        } finally {
+            scope.exit();
+        }
+    }
+
+    private Injector createInjector(int maximumSize) {
+        return Guice.createInjector(new PluginModule(plugin) {
+            @Override
+            protected void configureBindings() {
+                installWorldScope(maximumSize);
+            }
+        });
+    }
+
+    @Test
+    void keepsOneInstancePerWorld() {
+        Injector injector = createInjector(16);
+        WorldScope scope = injector.getInstance(WorldScope.class);
+        World first = mockWorld();
+        World second = mockWorld();
+
+        SpawnCache firstCache = getIn(scope, first, injector, SpawnCache.class);
+
+        assertSame(firstCache, getIn(scope, first, injector, SpawnCache.class));
+        assertNotSame(firstCache, getIn(scope, second, injector, SpawnCache.class));
+        assertEquals(2, scope.size());
+    }
+
+    @Test
+    void throwsOutsideOfScope() {
+        Injector injector = createInjector(16);
+
+        assertThrows(OutOfScopeException.class, () -> injector.getInstance(SpawnCache.class));
+    }
+
+    @Test
+    void evictsOnWorldUnload() {
+        Injector injector = createInjector(16);
+        WorldScope scope = injector.getInstance(WorldScope.class);
+        World world = mockWorld();
+        SpawnCache cache = getIn(scope, world, injector, SpawnCache.class);
+
+        scope.onWorldUnload(new WorldUnloadEvent(world));
+
+        assertEquals(0, scope.size());
+        assertNotSame(cache, getIn(scope, world, injector, SpawnCache.class));
+    }
+
+    @Test
+    void evictsOldestWorldsBeyondMaximumSize() {
+        Injector injector = createInjector(1);
+        WorldScope scope = injector.getInstance(WorldScope.class);
+        World first = mockWorld();
+        World second = mockWorld();
+        SpawnCache firstCache = getIn(scope, first, injector, SpawnCache.class);
+        SpawnCache secondCache = getIn(scope, second, injector, SpawnCache.class);
+
+        assertEquals(1, scope.size());
+        assertSame(secondCache, getIn(scope, second, injector, SpawnCache.class));
+        assertNotSame(firstCache, getIn(scope, first, injector, SpawnCache.class));
+    }
+
+    @Test
+    void isBoundAsListener() {
+        Injector injector = createInjector(16);
+
+        assertThat(PluginDependencies.fromInjector(injector).getListeners(),
+                hasItem(injector.getInstance(WorldScope.class)));
+    }
+}
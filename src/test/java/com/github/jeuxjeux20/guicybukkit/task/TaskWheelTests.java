@@ -0,0 +1,193 @@
+package com.github.jeuxjeux20.guicybukkit.task;
+
+import be.seeseemelk.mockbukkit.MockBukkit;
+import com.github.jeuxjeux20.guicybukkit.PluginTestBase;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TaskWheelTests extends PluginTestBase {
+
+    @Repeating(20)
+    static class EverySecondTask implements ScheduledTask {
+        int runs;
+
+        @Override
+        public void run() {
+            runs++;
+        }
+    }
+
+    @Repeating(1000)
+    static class BeyondWheelTask implements ScheduledTask {
+        int runs;
+
+        @Override
+        public void run() {
+            runs++;
+        }
+    }
+
+    @Repeating(value = 1, budgetMicros = 1)
+    static class SlowTask implements ScheduledTask {
+        @Override
+        public void run() {
+            long start = System.nanoTime();
+            while (System.nanoTime() - start < 100_000) {
+                Thread.onSpinWait();
+            }
+        }
+    }
+
+    @Repeating(1)
+    static class FailingTask implements ScheduledTask {
+        @Override
+        public void run() {
+            throw new IllegalStateException("Oops");
+        }
+    }
+
+    @Repeating(1)
+    static class MissingClassTask implements ScheduledTask {
+        @Override
+        public void run() {
+            throw new NoClassDefFoundError("SomeSoftDependency");
+        }
+    }
+
+    private static void tick(TaskWheel wheel, int ticks) {
+        for (int i = 0; i < ticks; i++) {
+            wheel.tick();
+        }
+    }
+
+    @Test
+    void runsTasksEveryPeriod() {
+        EverySecondTask task = new EverySecondTask();
+        TaskWheel wheel = new TaskWheel(Collections.singleton(task));
+        wheel.start(plugin);
+
+        tick(wheel, 60);
+
+        assertEquals(3, task.runs);
+        assertEquals(3, wheel.getMetrics().get(0).getRunCount());
+    }
+
+    @Test
+    void runsTasksWithPeriodsLongerThanTheWheel() {
+        BeyondWheelTask task = new BeyondWheelTask();
+        TaskWheel wheel = new TaskWheel(Collections.singleton(task), 64);
+        wheel.start(plugin);
+
+        tick(wheel, 2000);
+
+        assertEquals(2, task.runs);
+    }
+
+    @Test
+    void spreadsTasksWithTheSamePeriod() {
+        List<Long> runTicks = new ArrayList<>();
+        TaskWheel[] wheel = new TaskWheel[1];
+        List<ScheduledTask> tasks = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            tasks.add(new ScheduledTask() {
+                @Override
+                public long getPeriod() {
+                    return 4;
+                }
+
+                @Override
+                public long getTimeBudgetNanos() {
+                    return 0;
+                }
+
+                @Override
+                public void run() {
+                    runTicks.add(wheel[0].getCurrentTick());
+                }
+            });
+        }
+        wheel[0] = new TaskWheel(tasks);
+        wheel[0].start(plugin);
+
+        tick(wheel[0], 4);
+
+        assertEquals(4, runTicks.size());
+        assertEquals(4, new HashSet<>(runTicks).size());
+    }
+
+    @Test
+    void countsOverruns() {
+        TaskWheel wheel = new TaskWheel(Collections.singleton(new SlowTask()));
+        wheel.start(plugin);
+
+        tick(wheel, 3);
+
+        TaskMetrics metrics = wheel.getMetrics().get(0);
+        assertEquals(3, metrics.getOverrunCount());
+        assertTrue(metrics.getMaxNanos() >= 100_000);
+    }
+
+    @Test
+    void keepsRunningOtherTasksWhenOneFails() {
+        EverySecondTask task = new EverySecondTask();
+        TaskWheel wheel = new TaskWheel(Arrays.asList(new FailingTask(), task));
+        wheel.start(plugin);
+
+        tick(wheel, 20);
+
+        assertEquals(1, task.runs);
+        assertEquals(20, wheel.getMetrics().get(0).getRunCount());
+    }
+
+    @Test
+    void keepsRunningTasksWhenOneThrowsAnError() {
+        EverySecondTask task = new EverySecondTask();
+        TaskWheel wheel = new TaskWheel(Arrays.asList(new MissingClassTask(), task));
+        wheel.start(plugin);
+
+        tick(wheel, 40);
+
+        assertEquals(2, task.runs);
+        assertEquals(2, wheel.getMetrics().get(1).getRunCount());
+        assertEquals(40, wheel.getMetrics().get(0).getRunCount());
+    }
+
+    @Test
+    void restartsAfterTheBukkitTaskIsCancelled() {
+        EverySecondTask task = new EverySecondTask();
+        TaskWheel wheel = new TaskWheel(Collections.singleton(task));
+        wheel.start(plugin);
+
+        // Bukkit cancels the tasks of a plugin when it is disabled.
+        plugin.getServer().getScheduler().cancelTasks(plugin);
+
+        assertFalse(wheel.isStarted());
+
+        wheel.start(plugin);
+        MockBukkit.getMock().getScheduler().performTicks(40);
+
+        assertTrue(wheel.isStarted());
+        assertEquals(2, task.runs);
+        wheel.stop();
+    }
+
+    @Test
+    void stopsRunningTasks() {
+        EverySecondTask task = new EverySecondTask();
+        TaskWheel wheel = new TaskWheel(Collections.singleton(task));
+        wheel.start(plugin);
+
+        wheel.stop();
+        tick(wheel, 40);
+
+        assertFalse(wheel.isStarted());
+        assertEquals(0, task.runs);
+    }
+}
@@ -0,0 +1,58 @@
+package com.github.jeuxjeux20.guicybukkit.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class IntIntHashMapTests {
+
+    @Test
+    void returnsDefaultValueForMissingKeys() {
+        IntIntHashMap map = new IntIntHashMap(0, -1);
+
+        assertEquals(-1, map.get(5));
+        assertEquals(-1, map.remove(5));
+        assertEquals(-1, map.put(5, 3));
+        assertEquals(3, map.get(5));
+    }
+
+    @Test
+    void supportsZeroKey() {
+        IntIntHashMap map = new IntIntHashMap();
+
+        map.put(0, 12);
+        assertTrue(map.containsKey(0));
+        assertEquals(13, map.addTo(0, 1));
+        assertEquals(1, map.size());
+        assertEquals(13, map.remove(0));
+        assertFalse(map.containsKey(0));
+    }
+
+    @Test
+    void matchesHashMapUnderRandomOperations() {
+        IntIntHashMap map = new IntIntHashMap();
+        Map<Integer, Integer> expected = new HashMap<>();
+        Random random = new Random(27);
+
+        for (int i = 0; i < 100_000; i++) {
+            int key = random.nextInt(512) - 256;
+            if (random.nextBoolean()) {
+                assertEquals(expected.getOrDefault(key, 0), map.put(key, i));
+                expected.put(key, i);
+            } else {
+                Integer removed = expected.remove(key);
+                assertEquals(removed == null ? 0 : removed, map.remove(key));
+            }
+        }
+
+        assertEquals(expected.size(), map.size());
+        for (int key = -256; key < 256; key++) {
+            assertEquals(expected.containsKey(key), map.containsKey(key));
+            assertEquals(expected.getOrDefault(key, 0), map.get(key));
+        }
+    }
+}
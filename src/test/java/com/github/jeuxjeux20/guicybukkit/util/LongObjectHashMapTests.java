@@ -0,0 +1,53 @@
+package com.github.jeuxjeux20.guicybukkit.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LongObjectHashMapTests {
+
+    @Test
+    void putGetAndRemove() {
+        LongObjectHashMap<String> map = new LongObjectHashMap<>();
+
+        assertNull(map.put(42L, "a"));
+        assertEquals("a", map.put(42L, "b"));
+        assertEquals("b", map.get(42L));
+        assertEquals(1, map.size());
+        assertEquals("b", map.remove(42L));
+        assertNull(map.get(42L));
+        assertTrue(map.isEmpty());
+    }
+
+    @Test
+    void matchesHashMapUnderRandomOperations() {
+        LongObjectHashMap<Long> map = new LongObjectHashMap<>(0);
+        Map<Long, Long> expected = new HashMap<>();
+        Random random = new Random(20);
+
+        for (int i = 0; i < 100_000; i++) {
+            long key = random.nextInt(512) - 256;
+            if (random.nextBoolean()) {
+                assertEquals(expected.put(key, key), map.put(key, key));
+            } else {
+                assertEquals(expected.remove(key), map.remove(key));
+            }
+        }
+
+        assertEquals(expected.size(), map.size());
+        for (long key = -256; key < 256; key++) {
+            assertEquals(expected.get(key), map.get(key));
+        }
+    }
+
+    @Test
+    void rejectsNullValues() {
+        LongObjectHashMap<String> map = new LongObjectHashMap<>();
+
+        assertThrows(NullPointerException.class, () -> map.put(1L, null));
+    }
+}
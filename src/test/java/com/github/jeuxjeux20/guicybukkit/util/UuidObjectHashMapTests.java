@@ -0,0 +1,46 @@
+package com.github.jeuxjeux20.guicybukkit.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class UuidObjectHashMapTests {
+
+    @Test
+    void putGetAndRemove() {
+        UuidObjectHashMap<String> map = new UuidObjectHashMap<>();
+        UUID key = UUID.randomUUID();
+
+        assertNull(map.put(key, "a"));
+        assertEquals("a", map.get(new UUID(key.getMostSignificantBits(), key.getLeastSignificantBits())));
+        assertEquals("a", map.remove(key));
+        assertTrue(map.isEmpty());
+    }
+
+    @Test
+    void matchesHashMapUnderRandomOperations() {
+        UuidObjectHashMap<UUID> map = new UuidObjectHashMap<>(0);
+        Map<UUID, UUID> expected = new HashMap<>();
+        Random random = new Random(27);
+        List<UUID> keys = new ArrayList<>();
+        for (int i = 0; i < 512; i++) {
+            keys.add(new UUID(random.nextLong(), random.nextLong()));
+        }
+
+        for (int i = 0; i < 100_000; i++) {
+            UUID key = keys.get(random.nextInt(keys.size()));
+            if (random.nextBoolean()) {
+                assertEquals(expected.put(key, key), map.put(key, key));
+            } else {
+                assertEquals(expected.remove(key), map.remove(key));
+            }
+        }
+
+        assertEquals(expected.size(), map.size());
+        for (UUID key : keys) {
+            assertEquals(expected.get(key), map.get(key));
+        }
+    }
+}